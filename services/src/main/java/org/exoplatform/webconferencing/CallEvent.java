@@ -0,0 +1,414 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Call event delivered to user and call listeners: call state changed, participant joined or leaved, or
+ * call roster changed. The event is created once for all its recipients and not changed after that, its
+ * JSON built on first use and then reused for each recipient. It can be replicated in a cluster.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallEvent.java 00000 Oct 16, 2026 $
+ */
+public class CallEvent implements Externalizable {
+
+  /** The Constant TYPE_CALL_STATE. */
+  public static final String    TYPE_CALL_STATE  = "call_state";
+
+  /** The Constant TYPE_CALL_JOINED. */
+  public static final String    TYPE_CALL_JOINED = "call_joined";
+
+  /** The Constant TYPE_CALL_LEAVED. */
+  public static final String    TYPE_CALL_LEAVED = "call_leaved";
+
+  /** The Constant TYPE_CALL_ROSTER. */
+  public static final String    TYPE_CALL_ROSTER = "call_roster";
+
+  /** The Constant NO_IDS. */
+  private static final String[] NO_IDS           = new String[0];
+
+  /** The event type. */
+  private String                type;
+
+  /** The call id. */
+  private String                callId;
+
+  /** The provider type. */
+  private String                providerType;
+
+  /** The owner id. */
+  private String                ownerId;
+
+  /** The owner type. */
+  private String                ownerType;
+
+  /** The call state, only for call state event. */
+  private String                callState;
+
+  /** The participant id, only for joined and leaved events. */
+  private String                partId;
+
+  /** The joined participant ids, only for roster event. */
+  private String[]              joined           = NO_IDS;
+
+  /** The leaved participant ids, only for roster event. */
+  private String[]              leaved           = NO_IDS;
+
+  /** The JSON, it's built on first use. */
+  private transient volatile String json;
+
+  /**
+   * Call state changed event.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param callState the call state
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @return the call event
+   */
+  public static CallEvent callState(String callId, String providerType, String callState, String ownerId, String ownerType) {
+    CallEvent event = new CallEvent(TYPE_CALL_STATE, callId, providerType, ownerId, ownerType);
+    event.callState = callState;
+    return event;
+  }
+
+  /**
+   * Call participant joined event.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param partId the participant id
+   * @return the call event
+   */
+  public static CallEvent partJoined(String callId, String providerType, String ownerId, String ownerType, String partId) {
+    CallEvent event = new CallEvent(TYPE_CALL_JOINED, callId, providerType, ownerId, ownerType);
+    event.partId = partId;
+    return event;
+  }
+
+  /**
+   * Call participant leaved event.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param partId the participant id
+   * @return the call event
+   */
+  public static CallEvent partLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
+    CallEvent event = new CallEvent(TYPE_CALL_LEAVED, callId, providerType, ownerId, ownerType);
+    event.partId = partId;
+    return event;
+  }
+
+  /**
+   * Call roster changed event: participants joined and leaved during a coalescing window.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param joined the joined participant ids
+   * @param leaved the leaved participant ids
+   * @return the call event
+   */
+  public static CallEvent rosterChanged(String callId,
+                                        String providerType,
+                                        String ownerId,
+                                        String ownerType,
+                                        String[] joined,
+                                        String[] leaved) {
+    CallEvent event = new CallEvent(TYPE_CALL_ROSTER, callId, providerType, ownerId, ownerType);
+    event.joined = joined;
+    event.leaved = leaved;
+    return event;
+  }
+
+  /**
+   * Instantiates a new call event.
+   *
+   * @param type the type
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   */
+  protected CallEvent(String type, String callId, String providerType, String ownerId, String ownerType) {
+    this.type = type;
+    this.callId = callId;
+    this.providerType = providerType;
+    this.ownerId = ownerId;
+    this.ownerType = ownerType;
+  }
+
+  /**
+   * Instantiates a new call event (for serialization).
+   */
+  public CallEvent() {
+  }
+
+  /**
+   * Gets the event type.
+   *
+   * @return the type
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Gets the call id.
+   *
+   * @return the call id
+   */
+  public String getCallId() {
+    return callId;
+  }
+
+  /**
+   * Gets the provider type.
+   *
+   * @return the provider type
+   */
+  public String getProviderType() {
+    return providerType;
+  }
+
+  /**
+   * Gets the owner id.
+   *
+   * @return the owner id
+   */
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * Gets the owner type.
+   *
+   * @return the owner type
+   */
+  public String getOwnerType() {
+    return ownerType;
+  }
+
+  /**
+   * Gets the call state of call state event.
+   *
+   * @return the call state or <code>null</code> for other events
+   */
+  public String getCallState() {
+    return callState;
+  }
+
+  /**
+   * Gets the participant id of joined or leaved event.
+   *
+   * @return the participant id or <code>null</code> for other events
+   */
+  public String getPartId() {
+    return partId;
+  }
+
+  /**
+   * Gets the joined participant ids of roster event. Returned array must not be modified.
+   *
+   * @return the joined ids, empty for other events
+   */
+  public String[] getJoined() {
+    return joined;
+  }
+
+  /**
+   * Gets the leaved participant ids of roster event. Returned array must not be modified.
+   *
+   * @return the leaved ids, empty for other events
+   */
+  public String[] getLeaved() {
+    return leaved;
+  }
+
+  /**
+   * Gets the event JSON. It's built on first invocation and then reused.
+   *
+   * @return the JSON string
+   */
+  public String toJSON() {
+    String json = this.json;
+    if (json == null) {
+      // It's safe if concurrent threads build it, the result will be the same
+      this.json = json = buildJSON();
+    }
+    return json;
+  }
+
+  /**
+   * Builds the event JSON.
+   *
+   * @return the JSON string
+   */
+  protected String buildJSON() {
+    StringBuilder data = new StringBuilder();
+    data.append("{\"eventType\": \"").append(type);
+    data.append("\",\"callId\": \"").append(callId);
+    data.append("\",\"providerType\": \"").append(providerType).append('"');
+    if (callState != null) {
+      data.append(",\"callState\": \"").append(callState).append('"');
+    }
+    if (partId != null) {
+      data.append(",\"part\": {\"id\": \"").append(partId).append("\"}");
+    }
+    data.append(",\"owner\": {\"id\": \"").append(ownerId);
+    data.append("\",\"type\": \"").append(ownerType).append("\"}");
+    if (TYPE_CALL_ROSTER.equals(type)) {
+      data.append(",\"joined\": [");
+      appendIds(data, joined);
+      data.append("],\"leaved\": [");
+      appendIds(data, leaved);
+      data.append(']');
+    }
+    data.append('}');
+    return data.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return super.toString() + "[" + type + ", " + callId + "]";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeUTF(type);
+    out.writeUTF(callId);
+    out.writeUTF(providerType);
+    out.writeUTF(ownerId);
+    out.writeUTF(ownerType);
+    writeString(out, callState);
+    writeString(out, partId);
+    writeIds(out, joined);
+    writeIds(out, leaved);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    this.type = in.readUTF();
+    this.callId = in.readUTF();
+    this.providerType = in.readUTF();
+    this.ownerId = in.readUTF();
+    this.ownerType = in.readUTF();
+    this.callState = readString(in);
+    this.partId = readString(in);
+    this.joined = readIds(in);
+    this.leaved = readIds(in);
+  }
+
+  /**
+   * Append IDs as JSON strings separated by comma.
+   *
+   * @param data the data
+   * @param ids the ids
+   */
+  private static void appendIds(StringBuilder data, String[] ids) {
+    for (int i = 0; i < ids.length; i++) {
+      if (i > 0) {
+        data.append(',');
+      }
+      data.append('"');
+      data.append(ids[i]);
+      data.append('"');
+    }
+  }
+
+  /**
+   * Write a nullable string.
+   *
+   * @param out the out
+   * @param str the string
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static void writeString(ObjectOutput out, String str) throws IOException {
+    out.writeBoolean(str != null);
+    if (str != null) {
+      out.writeUTF(str);
+    }
+  }
+
+  /**
+   * Read a nullable string.
+   *
+   * @param in the in
+   * @return the string or <code>null</code>
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static String readString(ObjectInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+
+  /**
+   * Write the IDs array.
+   *
+   * @param out the out
+   * @param ids the ids
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static void writeIds(ObjectOutput out, String[] ids) throws IOException {
+    out.writeInt(ids.length);
+    for (String id : ids) {
+      out.writeUTF(id);
+    }
+  }
+
+  /**
+   * Read the IDs array.
+   *
+   * @param in the in
+   * @return the IDs array
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static String[] readIds(ObjectInput in) throws IOException {
+    int size = in.readInt();
+    if (size == 0) {
+      return NO_IDS;
+    }
+    String[] ids = new String[size];
+    for (int i = 0; i < size; i++) {
+      ids[i] = in.readUTF();
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.exoplatform.container.ExoContainer;
+import org.exoplatform.container.ExoContainerContext;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+
+/**
+ * Dispatcher of call events to user listeners in background. Events queued by the calling thread and
+ * delivered by a fixed set of single-thread stripes, a stripe is chosen by the user ID. Thus events of the
+ * same user are delivered in the order they were dispatched, while events of different users delivered in
+ * parallel. It lets call operations (e.g. join or leave) return right after the storage update, without
+ * waiting for publishing to all the call participants.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallEventDispatcher.java 00000 Oct 16, 2026 $
+ */
+public class CallEventDispatcher {
+
+  /** The Constant LOG. */
+  protected static final Log           LOG           = ExoLogger.getLogger(CallEventDispatcher.class);
+
+  /** The stripes. */
+  protected final ThreadPoolExecutor[] stripes;
+
+  /** The number of events queued and not yet delivered. */
+  protected final AtomicInteger        queueDepth    = new AtomicInteger();
+
+  /** The max number of events queued at once. */
+  protected final AtomicInteger        maxQueueDepth = new AtomicInteger();
+
+  /** The number of delivered events. */
+  protected final AtomicLong           dispatched    = new AtomicLong();
+
+  /** The number of events failed in a listener. */
+  protected final AtomicLong           failed        = new AtomicLong();
+
+  /** The total time in milliseconds events spent in the queue. */
+  protected final AtomicLong           totalLag      = new AtomicLong();
+
+  /** The max time in milliseconds an event spent in the queue. */
+  protected final AtomicLong           maxLag        = new AtomicLong();
+
+  /** The container set to stripe threads while delivering an event, it's <code>null</code> until started. */
+  protected volatile ExoContainer      container;
+
+  /**
+   * An event queued for delivery.
+   */
+  protected class Event implements Runnable {
+
+    /** The task delivering the event. */
+    final Runnable task;
+
+    /** The time when event queued. */
+    final long     queued = System.currentTimeMillis();
+
+    /**
+     * Instantiates a new event.
+     *
+     * @param task the task
+     */
+    Event(Runnable task) {
+      this.task = task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+      queueDepth.decrementAndGet();
+      long lag = System.currentTimeMillis() - queued;
+      totalLag.addAndGet(lag);
+      maxLag.accumulateAndGet(lag, Math::max);
+      // Container context for proper work of eXo services in listeners, it's read for each event as events
+      // may be queued before the start
+      ExoContainer prevContainer = ExoContainerContext.getCurrentContainerIfPresent();
+      ExoContainerContext.setCurrentContainer(container);
+      try {
+        task.run();
+      } catch (Throwable e) {
+        failed.incrementAndGet();
+        LOG.warn("Error delivering call event", e);
+      } finally {
+        ExoContainerContext.setCurrentContainer(prevContainer);
+        dispatched.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Instantiates a new call event dispatcher.
+   *
+   * @param threadPrefix the stripe threads name prefix
+   * @param stripesCount the number of stripes
+   */
+  public CallEventDispatcher(String threadPrefix, int stripesCount) {
+    this.stripes = new ThreadPoolExecutor[stripesCount > 0 ? stripesCount : 1];
+    for (int i = 0; i < stripes.length; i++) {
+      final String threadName = threadPrefix + (i + 1);
+      this.stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+        Thread t = new Thread(r, threadName);
+        t.setDaemon(true);
+        return t;
+      });
+    }
+  }
+
+  /**
+   * Start the dispatcher. Events can be dispatched before the start, but they will not have the container
+   * context if delivered before it.
+   *
+   * @param container the container
+   */
+  public void start(ExoContainer container) {
+    this.container = container;
+  }
+
+  /**
+   * Stop the dispatcher. Already queued events will be delivered during given timeout, not delivered will be
+   * dropped.
+   *
+   * @param timeout the timeout in milliseconds
+   */
+  public void stop(long timeout) {
+    for (ExecutorService stripe : stripes) {
+      stripe.shutdown();
+    }
+    try {
+      long deadline = System.currentTimeMillis() + timeout;
+      for (ExecutorService stripe : stripes) {
+        long wait = deadline - System.currentTimeMillis();
+        if (wait <= 0 || !stripe.awaitTermination(wait, TimeUnit.MILLISECONDS)) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      for (ExecutorService stripe : stripes) {
+        stripe.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Queue a call event for given user. Events of the same user will be delivered in the order of this
+   * method invocations.
+   *
+   * @param userId the user id
+   * @param task the task delivering the event to the user listeners
+   */
+  public void dispatch(String userId, Runnable task) {
+    int depth = queueDepth.incrementAndGet();
+    maxQueueDepth.accumulateAndGet(depth, Math::max);
+    try {
+      stripes[(userId.hashCode() & Integer.MAX_VALUE) % stripes.length].execute(new Event(task));
+    } catch (RejectedExecutionException e) {
+      queueDepth.decrementAndGet();
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Call event for " + userId + " dropped as dispatcher stopped");
+      }
+    }
+  }
+
+  /**
+   * Gets the number of events queued and not yet delivered.
+   *
+   * @return the queue depth
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /**
+   * Gets the max number of events queued at once.
+   *
+   * @return the max queue depth
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  /**
+   * Gets the number of delivered events.
+   *
+   * @return the dispatched events count
+   */
+  public long getDispatchedCount() {
+    return dispatched.get();
+  }
+
+  /**
+   * Gets the number of events failed in a listener.
+   *
+   * @return the failed events count
+   */
+  public long getFailedCount() {
+    return failed.get();
+  }
+
+  /**
+   * Gets the average time in milliseconds events spent in the queue.
+   *
+   * @return the average dispatch lag
+   */
+  public double getAverageLag() {
+    long count = dispatched.get();
+    return count > 0 ? (double) totalLag.get() / count : 0;
+  }
+
+  /**
+   * Gets the max time in milliseconds an event spent in the queue.
+   *
+   * @return the max dispatch lag
+   */
+  public long getMaxLag() {
+    return maxLag.get();
+  }
+}
@@ -22,7 +22,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.exoplatform.services.log.ExoLogger;
 import org.exoplatform.services.log.Log;
@@ -138,6 +140,12 @@ public class CallInfo {
   /** The invite id. */
   protected String              inviteId;
 
+  /** The storage version of the call, it's not exposed to clients. */
+  protected long                version;
+
+  /** The storage versions of the participants by their IDs, it's not exposed to clients. */
+  protected final Map<String, Long> participantVersions = new ConcurrentHashMap<>();
+
   /**
    * Instantiates a new call info.
    *
@@ -357,6 +365,45 @@ public class CallInfo {
   public void setEndDate(Date endDate) {
     this.endDate = endDate;
   }
+
+  /**
+   * Gets the storage version of the call this object was read from. Updates of the call will succeed only
+   * if the saved call still has this version.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the storage version of the call.
+   *
+   * @param version the version to set
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  /**
+   * Gets the storage version of the call participant.
+   *
+   * @param partId the participant id
+   * @return the version or <code>null</code> if participant wasn't read from the storage
+   */
+  public Long getParticipantVersion(String partId) {
+    return participantVersions.get(partId);
+  }
+
+  /**
+   * Sets the storage version of the call participant.
+   *
+   * @param partId the participant id
+   * @param version the version to set
+   */
+  public void setParticipantVersion(String partId, long version) {
+    participantVersions.put(partId, version);
+  }
   
   /**
    * Return JSON representation of this call.
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+/**
+ * Listener of participant events of running calls. Unlike {@link UserCallListener}, it is notified once per
+ * event for all the call participants, thus an implementation can deliver the event to all of them at once
+ * (e.g. by publishing to a call channel).
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallListener.java 00000 Oct 16, 2026 $
+ */
+public abstract class CallListener {
+
+  /**
+   * On participant joined.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param partId the participant user id
+   */
+  public abstract void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId);
+
+  /**
+   * On participant leaved.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param partId the participant user id
+   */
+  public abstract void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId);
+
+  /**
+   * On participants joined and leaved a call during a coalescing window (see
+   * {@link CallProvider#getRosterCoalesceSize()}). By default it will invoke
+   * {@link #onPartJoined(String, String, String, String, String)} and
+   * {@link #onPartLeaved(String, String, String, String, String)} for each participant.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param joined the joined participant user ids
+   * @param leaved the leaved participant user ids
+   */
+  public void onRosterChanged(String callId,
+                              String providerType,
+                              String ownerId,
+                              String ownerType,
+                              String[] joined,
+                              String[] leaved) {
+    for (String partId : joined) {
+      onPartJoined(callId, providerType, ownerId, ownerType, partId);
+    }
+    for (String partId : leaved) {
+      onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+    }
+  }
+
+  /**
+   * On call event. By default it will invoke a method of this listener according the event type,
+   * implementations can override it to deliver the event as is.
+   *
+   * @param event the event
+   */
+  public void onCallEvent(CallEvent event) {
+    switch (event.getType()) {
+    case CallEvent.TYPE_CALL_JOINED:
+      onPartJoined(event.getCallId(), event.getProviderType(), event.getOwnerId(), event.getOwnerType(), event.getPartId());
+      break;
+    case CallEvent.TYPE_CALL_LEAVED:
+      onPartLeaved(event.getCallId(), event.getProviderType(), event.getOwnerId(), event.getOwnerType(), event.getPartId());
+      break;
+    case CallEvent.TYPE_CALL_ROSTER:
+      onRosterChanged(event.getCallId(),
+                      event.getProviderType(),
+                      event.getOwnerId(),
+                      event.getOwnerType(),
+                      event.getJoined(),
+                      event.getLeaved());
+      break;
+    default:
+      break;
+    }
+  }
+}
@@ -47,6 +47,18 @@ public abstract class CallProvider extends BaseComponentPlugin {
   /** The Constant CONFIG_PROVIDER_CONFIGURATION. */
   public static final String    CONFIG_PROVIDER_CONFIGURATION = "provider-configuration";
 
+  /**
+   * The configuration of minimal number of group call participants to coalesce their joins and leaves in a
+   * single roster event, zero or negative value (default) disables coalescing.
+   */
+  public static final String    CONFIG_ROSTER_COALESCE_SIZE   = "roster-coalesce-size";
+
+  /** The configuration of time window in milliseconds to coalesce joins and leaves of a call. */
+  public static final String    CONFIG_ROSTER_COALESCE_WINDOW = "roster-coalesce-window";
+
+  /** The default roster coalescing window in milliseconds. */
+  public static final long      ROSTER_COALESCE_WINDOW_DEFAULT = 250;
+
   /** The Constant EMAIL_REGEX. */
   protected static final String EMAIL_REGEX                   =
                                             "^(?=[A-Z0-9][A-Z0-9@._%+-]{5,253}+$)[A-Z0-9._%+-]{1,64}+@(?:(?=[A-Z0-9-]{1,63}+\\.)[A-Z0-9]++(?:-[A-Z0-9]++)*+\\.){1,8}+[A-Z]{2,63}+$";
@@ -132,6 +144,12 @@ public abstract class CallProvider extends BaseComponentPlugin {
   /** The active flag. */
   protected boolean                   active;
 
+  /** The minimal number of group call participants to coalesce roster events, zero if disabled. */
+  protected final int                 rosterCoalesceSize;
+
+  /** The roster coalescing window in milliseconds. */
+  protected final long                rosterCoalesceWindow;
+
   /**
    * Instantiates a new web conferencing provider.
    *
@@ -144,6 +162,16 @@ public abstract class CallProvider extends BaseComponentPlugin {
     if (param != null) {
       this.config = Collections.unmodifiableMap(param.getProperties());
       this.active = Boolean.valueOf(this.config.getOrDefault(CONFIG_PROVIDER_ACTIVE, Boolean.TRUE.toString()));
+      try {
+        int coalesceSize = Integer.parseInt(this.config.getOrDefault(CONFIG_ROSTER_COALESCE_SIZE, "0").trim());
+        this.rosterCoalesceSize = coalesceSize > 0 ? coalesceSize : 0;
+        long coalesceWindow = Long.parseLong(this.config.getOrDefault(CONFIG_ROSTER_COALESCE_WINDOW,
+                                                                      String.valueOf(ROSTER_COALESCE_WINDOW_DEFAULT))
+                                                        .trim());
+        this.rosterCoalesceWindow = coalesceWindow > 0 ? coalesceWindow : ROSTER_COALESCE_WINDOW_DEFAULT;
+      } catch (NumberFormatException e) {
+        throw new ConfigurationException("Wrong roster coalescing configuration: " + e.getMessage(), e);
+      }
     } else {
       throw new ConfigurationException("Property parameters provider-configuration required.");
     }
@@ -206,6 +234,25 @@ public abstract class CallProvider extends BaseComponentPlugin {
     this.active = active;
   }
 
+  /**
+   * Gets the minimal number of group call participants when their joins and leaves will be coalesced in a
+   * single roster event per user, see {@link #getRosterCoalesceWindow()}.
+   *
+   * @return the participants number, zero if coalescing disabled
+   */
+  public int getRosterCoalesceSize() {
+    return rosterCoalesceSize;
+  }
+
+  /**
+   * Gets the time window in milliseconds during which joins and leaves of a call will be coalesced.
+   *
+   * @return the coalescing window
+   */
+  public long getRosterCoalesceWindow() {
+    return rosterCoalesceWindow;
+  }
+
   /**
    * Checks if it is a supported type by this provider.
    *
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Record of a past call read from the calls archive. It contains the call data as it was when the call
+ * archived, owner and participants are not resolved as they may not exist anymore.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallRecord.java 00000 Oct 16, 2026 $
+ */
+public class CallRecord {
+
+  /** The call id. */
+  protected final String       id;
+
+  /** The title. */
+  protected final String       title;
+
+  /** The provider type. */
+  protected final String       providerType;
+
+  /** The owner id. */
+  protected final String       ownerId;
+
+  /** The owner type. */
+  protected final String       ownerType;
+
+  /** The last (actual) date of call start. */
+  protected final Date         lastDate;
+
+  /** The start date as planned. */
+  protected final Date         startDate;
+
+  /** The end date as planned. */
+  protected final Date         endDate;
+
+  /** The archived date. */
+  protected final Date         archivedDate;
+
+  /** The participant IDs. */
+  protected final List<String> participants;
+
+  /**
+   * Instantiates a new call record.
+   *
+   * @param id the call id
+   * @param title the title
+   * @param providerType the provider type
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param lastDate the last date
+   * @param startDate the start date
+   * @param endDate the end date
+   * @param archivedDate the archived date
+   * @param participants the participant IDs
+   */
+  public CallRecord(String id,
+                    String title,
+                    String providerType,
+                    String ownerId,
+                    String ownerType,
+                    Date lastDate,
+                    Date startDate,
+                    Date endDate,
+                    Date archivedDate,
+                    List<String> participants) {
+    this.id = id;
+    this.title = title;
+    this.providerType = providerType;
+    this.ownerId = ownerId;
+    this.ownerType = ownerType;
+    this.lastDate = lastDate;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.archivedDate = archivedDate;
+    this.participants = Collections.unmodifiableList(participants);
+  }
+
+  /**
+   * Gets the call id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the title.
+   *
+   * @return the title
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * Gets the provider type.
+   *
+   * @return the provider type
+   */
+  public String getProviderType() {
+    return providerType;
+  }
+
+  /**
+   * Gets the owner id.
+   *
+   * @return the owner id
+   */
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * Gets the owner type.
+   *
+   * @return the owner type
+   */
+  public String getOwnerType() {
+    return ownerType;
+  }
+
+  /**
+   * Gets the last (actual) date of call start.
+   *
+   * @return the last date
+   */
+  public Date getLastDate() {
+    return lastDate;
+  }
+
+  /**
+   * Gets the start date as planned.
+   *
+   * @return the start date, can be <code>null</code>
+   */
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  /**
+   * Gets the end date as planned.
+   *
+   * @return the end date, can be <code>null</code>
+   */
+  public Date getEndDate() {
+    return endDate;
+  }
+
+  /**
+   * Gets the archived date.
+   *
+   * @return the archived date
+   */
+  public Date getArchivedDate() {
+    return archivedDate;
+  }
+
+  /**
+   * Gets the participant IDs.
+   *
+   * @return the participants, unmodifiable
+   */
+  public List<String> getParticipants() {
+    return participants;
+  }
+}
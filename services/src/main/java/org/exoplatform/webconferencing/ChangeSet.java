@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Identities added to and removed from a call (as participants or invites) by an update. Use it to
+ * invalidate cached data and to notify only affected users instead of all identities of the call.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ChangeSet.java 00000 Oct 16, 2026 $
+ */
+public class ChangeSet {
+
+  /** The empty change set. */
+  public static final ChangeSet EMPTY = new ChangeSet(Collections.emptySet(), Collections.emptySet());
+
+  /** The added identity IDs. */
+  protected final Set<String> added;
+
+  /** The removed identity IDs. */
+  protected final Set<String> removed;
+
+  /**
+   * Instantiates a new change set.
+   *
+   * @param added the added identity IDs
+   * @param removed the removed identity IDs
+   */
+  public ChangeSet(Set<String> added, Set<String> removed) {
+    this.added = Collections.unmodifiableSet(new LinkedHashSet<>(added));
+    this.removed = Collections.unmodifiableSet(new LinkedHashSet<>(removed));
+  }
+
+  /**
+   * Gets the added identity IDs.
+   *
+   * @return the added IDs, unmodifiable
+   */
+  public Set<String> getAdded() {
+    return added;
+  }
+
+  /**
+   * Gets the removed identity IDs.
+   *
+   * @return the removed IDs, unmodifiable
+   */
+  public Set<String> getRemoved() {
+    return removed;
+  }
+
+  /**
+   * Checks if nothing was changed.
+   *
+   * @return true, if no identities added or removed
+   */
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "added: " + added.size() + ", removed: " + removed.size();
+  }
+}
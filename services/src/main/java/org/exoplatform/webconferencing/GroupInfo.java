@@ -22,7 +22,9 @@ package org.exoplatform.webconferencing;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Represent eXo group for conversations in calls.<br>
@@ -35,12 +37,34 @@ import java.util.Map;
  */
 public abstract class GroupInfo extends IdentityInfo {
 
+  /**
+   * Resolves group members by their IDs on demand.
+   */
+  @FunctionalInterface
+  public interface MembersResolver {
+
+    /**
+     * Resolve the members.
+     *
+     * @param ids the member IDs
+     * @return the map of members in order of given IDs
+     * @throws IdentityStateException if error reading members
+     */
+    Map<String, UserInfo> resolve(Collection<String> ids) throws IdentityStateException;
+  }
+
   /** The group call id. */
   protected String                      callId;
 
   /** The members. */
   protected final Map<String, UserInfo> members = new LinkedHashMap<>();
 
+  /** The member IDs not yet resolved, <code>null</code> when members resolved or set explicitly. */
+  protected Set<String>                 memberIds;
+
+  /** The members resolver used for not yet resolved members. */
+  protected MembersResolver             membersResolver;
+
   /**
    * Instantiates a new group info.
    *
@@ -77,14 +101,76 @@ public abstract class GroupInfo extends IdentityInfo {
   }
 
   /**
-   * Gets the members.
+   * Gets the members. If the members were set as lazy, they will be resolved here.
    *
    * @return the members
+   * @throws IllegalStateException if error resolving lazy members, they stay not resolved and a next call
+   *           will try again
    */
   public Map<String, UserInfo> getMembers() {
+    if (memberIds != null) {
+      try {
+        loadMembers();
+      } catch (IdentityStateException e) {
+        throw new IllegalStateException("Error reading members of " + getType() + " " + getId(), e);
+      }
+    }
     return Collections.unmodifiableMap(members);
   }
 
+  /**
+   * Checks if given ID is of this group member. This method will not resolve all the members if they were set
+   * as lazy, only given ID will be resolved to let the resolver skip it as {@link #getMembers()} would do.
+   *
+   * @param id the member ID
+   * @return true, if it's a member of this group
+   */
+  public boolean hasMember(String id) {
+    synchronized (members) {
+      if (memberIds != null) {
+        if (memberIds.contains(id)) {
+          try {
+            return membersResolver.resolve(Collections.singleton(id)).containsKey(id);
+          } catch (IdentityStateException e) {
+            throw new IllegalStateException("Error reading member " + id + " of " + getType() + " " + getId(), e);
+          }
+        }
+        return false;
+      }
+      return members.containsKey(id);
+    }
+  }
+
+  /**
+   * Set members by their IDs for lazy resolution: actual members will be resolved with given resolver on
+   * first access to {@link #getMembers()} or by {@link #loadMembers()}. Existing members will be replaced.
+   *
+   * @param ids the member IDs
+   * @param resolver the resolver
+   */
+  protected void setMembers(Collection<String> ids, MembersResolver resolver) {
+    synchronized (members) {
+      members.clear();
+      this.memberIds = Collections.unmodifiableSet(new LinkedHashSet<>(ids));
+      this.membersResolver = resolver;
+    }
+  }
+
+  /**
+   * Resolve the members if they were set as lazy. Does nothing if members already resolved.
+   *
+   * @throws IdentityStateException if error reading members
+   */
+  protected void loadMembers() throws IdentityStateException {
+    synchronized (members) {
+      if (memberIds != null) {
+        members.putAll(membersResolver.resolve(memberIds));
+        memberIds = null;
+        membersResolver = null;
+      }
+    }
+  }
+
   /**
    * Adds the member.
    *
@@ -111,9 +197,13 @@ public abstract class GroupInfo extends IdentityInfo {
    * @param users the users
    */
   protected void setMembers(Collection<UserInfo> users) {
-    members.clear();
-    for (UserInfo u : users) {
-      addMember(u);
+    synchronized (members) {
+      members.clear();
+      memberIds = null;
+      membersResolver = null;
+      for (UserInfo u : users) {
+        addMember(u);
+      }
     }
   }
 
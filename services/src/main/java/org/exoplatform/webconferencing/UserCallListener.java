@@ -131,4 +131,67 @@ public abstract class UserCallListener {
    */
   public abstract void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId);
 
+  /**
+   * On participants joined and leaved a call during a coalescing window (see
+   * {@link CallProvider#getRosterCoalesceSize()}). By default it will invoke
+   * {@link #onPartJoined(String, String, String, String, String)} and
+   * {@link #onPartLeaved(String, String, String, String, String)} for each participant, implementations
+   * can override it to send the roster delta at once.
+   *
+   * @param callId the call id
+   * @param providerType the provider type
+   * @param ownerId the caller id
+   * @param ownerType the caller type
+   * @param joined the joined participant user ids
+   * @param leaved the leaved participant user ids
+   */
+  public void onRosterChanged(String callId,
+                              String providerType,
+                              String ownerId,
+                              String ownerType,
+                              String[] joined,
+                              String[] leaved) {
+    for (String partId : joined) {
+      onPartJoined(callId, providerType, ownerId, ownerType, partId);
+    }
+    for (String partId : leaved) {
+      onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+    }
+  }
+
+  /**
+   * On call event. By default it will invoke a method of this listener according the event type,
+   * implementations can override it to deliver the event as is (e.g. use its {@link CallEvent#toJSON()}
+   * built once for all the event recipients).
+   *
+   * @param event the event
+   */
+  public void onCallEvent(CallEvent event) {
+    switch (event.getType()) {
+    case CallEvent.TYPE_CALL_STATE:
+      onCallStateChanged(event.getCallId(),
+                         event.getProviderType(),
+                         event.getCallState(),
+                         event.getOwnerId(),
+                         event.getOwnerType());
+      break;
+    case CallEvent.TYPE_CALL_JOINED:
+      onPartJoined(event.getCallId(), event.getProviderType(), event.getOwnerId(), event.getOwnerType(), event.getPartId());
+      break;
+    case CallEvent.TYPE_CALL_LEAVED:
+      onPartLeaved(event.getCallId(), event.getProviderType(), event.getOwnerId(), event.getOwnerType(), event.getPartId());
+      break;
+    case CallEvent.TYPE_CALL_ROSTER:
+      onRosterChanged(event.getCallId(),
+                      event.getProviderType(),
+                      event.getOwnerId(),
+                      event.getOwnerType(),
+                      event.getJoined(),
+                      event.getLeaved());
+      break;
+    default:
+      break;
+    }
+  }
+
 }
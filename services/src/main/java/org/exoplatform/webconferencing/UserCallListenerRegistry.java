@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of user call listeners safe for concurrent use: listeners can be added and removed by CometD
+ * threads while events dispatched to them by other threads. Listeners of each user kept in an array replaced
+ * on each change (copy-on-write), thus dispatch iterates a snapshot without locks or allocations. A user
+ * usually has a few listeners (one per browser tab or device), thus array copies on change are cheap.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: UserCallListenerRegistry.java 00000 Oct 16, 2026 $
+ */
+public class UserCallListenerRegistry {
+
+  /** The empty listeners array. */
+  protected static final UserCallListener[]                     NO_LISTENERS = new UserCallListener[0];
+
+  /** The listeners arrays by user ID, an array is never modified after it was put to the map. */
+  protected final ConcurrentHashMap<String, UserCallListener[]> listeners    = new ConcurrentHashMap<>();
+
+  /**
+   * Adds the listener. If an equal listener (of the same user and client) already registered, nothing will
+   * be changed.
+   *
+   * @param listener the listener
+   */
+  public void add(UserCallListener listener) {
+    listeners.compute(listener.getUserId(), (userId, current) -> {
+      if (current == null) {
+        return new UserCallListener[] { listener };
+      }
+      if (indexOf(current, listener) >= 0) {
+        return current;
+      }
+      UserCallListener[] updated = new UserCallListener[current.length + 1];
+      System.arraycopy(current, 0, updated, 0, current.length);
+      updated[current.length] = listener;
+      return updated;
+    });
+  }
+
+  /**
+   * Removes the listener. When a last listener of an user removed, the user will be removed from the
+   * registry.
+   *
+   * @param listener the listener
+   */
+  public void remove(UserCallListener listener) {
+    listeners.computeIfPresent(listener.getUserId(), (userId, current) -> {
+      int index = indexOf(current, listener);
+      if (index < 0) {
+        return current;
+      }
+      if (current.length == 1) {
+        return null;
+      }
+      UserCallListener[] updated = new UserCallListener[current.length - 1];
+      System.arraycopy(current, 0, updated, 0, index);
+      System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+      return updated;
+    });
+  }
+
+  /**
+   * Gets listeners of an user. Returned array is a snapshot shared with other callers and must not be
+   * modified.
+   *
+   * @param userId the user id
+   * @return the listeners array, empty if the user has no listeners
+   */
+  public UserCallListener[] get(String userId) {
+    UserCallListener[] userListeners = listeners.get(userId);
+    return userListeners != null ? userListeners : NO_LISTENERS;
+  }
+
+  /**
+   * Gets the number of users having listeners.
+   *
+   * @return the users count
+   */
+  public int getUsersCount() {
+    return listeners.size();
+  }
+
+  /**
+   * Find an index of equal listener in the array.
+   *
+   * @param array the array
+   * @param listener the listener
+   * @return the index or -1 if not found
+   */
+  private static int indexOf(UserCallListener[] array, UserCallListener listener) {
+    for (int i = 0; i < array.length; i++) {
+      if (array[i].equals(listener)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -32,14 +32,29 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,6 +62,7 @@ import javax.jcr.Node;
 import javax.jcr.PathNotFoundException;
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
+import javax.persistence.OptimisticLockException;
 import javax.persistence.PersistenceException;
 import javax.servlet.http.HttpServletRequest;
 
@@ -62,8 +78,10 @@ import org.exoplatform.commons.api.settings.SettingValue;
 import org.exoplatform.commons.api.settings.data.Context;
 import org.exoplatform.commons.api.settings.data.Scope;
 import org.exoplatform.commons.utils.ListAccess;
+import org.exoplatform.container.ExoContainer;
 import org.exoplatform.container.ExoContainerContext;
 import org.exoplatform.container.component.ComponentPlugin;
+import org.exoplatform.container.component.RequestLifeCycle;
 import org.exoplatform.container.xml.InitParams;
 import org.exoplatform.container.xml.PropertiesParam;
 import org.exoplatform.ecm.utils.permission.PermissionUtil;
@@ -75,6 +93,10 @@ import org.exoplatform.services.jcr.core.ManageableRepository;
 import org.exoplatform.services.jcr.ext.app.SessionProviderService;
 import org.exoplatform.services.jcr.ext.common.SessionProvider;
 import org.exoplatform.services.jcr.ext.hierarchy.NodeHierarchyCreator;
+import org.exoplatform.services.cache.CacheListener;
+import org.exoplatform.services.cache.CacheListenerContext;
+import org.exoplatform.services.cache.CacheService;
+import org.exoplatform.services.cache.ExoCache;
 import org.exoplatform.services.listener.ListenerService;
 import org.exoplatform.services.log.ExoLogger;
 import org.exoplatform.services.log.Log;
@@ -99,11 +121,27 @@ import org.exoplatform.upload.UploadResource;
 import org.exoplatform.upload.UploadService;
 import org.exoplatform.wcm.ext.component.document.service.ShareDocumentService;
 import org.exoplatform.webconferencing.UserInfo.IMInfo;
+import org.exoplatform.webconferencing.cache.CacheStamps;
+import org.exoplatform.webconferencing.cache.CacheStats;
+import org.exoplatform.webconferencing.cache.CallData;
+import org.exoplatform.webconferencing.cache.CallData.ParticipantData;
+import org.exoplatform.webconferencing.cache.ParticipantStateData;
+import org.exoplatform.webconferencing.cache.ProviderConfigsData;
+import org.exoplatform.webconferencing.cache.SpaceData;
+import org.exoplatform.webconferencing.cache.UserCallsData;
+import org.exoplatform.webconferencing.cache.UserData;
+import org.exoplatform.webconferencing.cache.UserData.IMData;
+import org.exoplatform.webconferencing.dao.CallAggregate;
+import org.exoplatform.webconferencing.dao.CallArchiveDAO;
 import org.exoplatform.webconferencing.dao.CallDAO;
+import org.exoplatform.webconferencing.dao.ConcurrentUpdateException;
 import org.exoplatform.webconferencing.dao.InviteDAO;
 import org.exoplatform.webconferencing.dao.OriginDAO;
 import org.exoplatform.webconferencing.dao.ParticipantDAO;
 import org.exoplatform.webconferencing.dao.StorageException;
+import org.exoplatform.webconferencing.domain.ArchivedCallEntity;
+import org.exoplatform.webconferencing.domain.ArchivedOriginEntity;
+import org.exoplatform.webconferencing.domain.ArchivedParticipantEntity;
 import org.exoplatform.webconferencing.domain.CallEntity;
 import org.exoplatform.webconferencing.domain.InviteEntity;
 import org.exoplatform.webconferencing.domain.OriginEntity;
@@ -157,9 +195,24 @@ public class WebConferencingService implements Startable {
   /** The operation call recorded. */
   public static final String          OPERATION_CALL_RECORDED      = "call-recorded";
 
+  /** The operation call read. */
+  public static final String          OPERATION_CALL_READ          = "call-read";
+
+  /** The operation call participants sync. */
+  public static final String          OPERATION_CALL_PARTICIPANTS_SYNC = "call-participants-sync";
+
+  /** The operation calls purge. */
+  public static final String          OPERATION_CALLS_PURGE        = "calls-purge";
+
+  /** The operation calls archive. */
+  public static final String          OPERATION_CALLS_ARCHIVE      = "calls-archive";
+
   /** The status ok. */
   public static final String          STATUS_OK                    = "ok";
 
+  /** The status of an operation conflicted with a concurrent update of the call. */
+  public static final String          STATUS_CONFLICT              = "conflict";
+
   public static final String    EVENT_CALL_CREATED           = "exo.webconferencing.callCreated";
 
   public static final String    EVENT_CALL_STARTED           = "exo.webconferencing.callStarted";
@@ -190,6 +243,111 @@ public class WebConferencingService implements Startable {
   /** The Constant SECRET_KEY. */
   protected static final String SECRET_KEY                   = "secret-key";
 
+  /** The Constant CALL_STATE_PROPERTIES. */
+  protected static final String CALL_STATE_PROPERTIES        = "call-state";
+
+  /** The Constant HOT_STORE_ENABLED. */
+  protected static final String HOT_STORE_ENABLED            = "hot-store-enabled";
+
+  /** The Constant HOT_STORE_FLUSH_PERIOD. */
+  protected static final String HOT_STORE_FLUSH_PERIOD       = "flush-period";
+
+  /** The Constant CALL_ARCHIVE_PROPERTIES. */
+  protected static final String CALL_ARCHIVE_PROPERTIES      = "call-archive";
+
+  /** The Constant ARCHIVE_DAYS. */
+  protected static final String ARCHIVE_DAYS                 = "archive-days";
+
+  /** Default number of days after which stopped group calls will be moved to the archive. */
+  protected static final int    ARCHIVE_DAYS_DEFAULT         = 90;
+
+  /** Default period in milliseconds of writing participant states from the hot store to the storage. */
+  protected static final long   HOT_STORE_FLUSH_PERIOD_DEFAULT = 1000;
+
+  /** Number of participant states written to the storage in a single transaction. */
+  protected static final int    HOT_STORE_FLUSH_CHUNK_SIZE   = 500;
+
+  /**
+   * Number of flush periods after which a participant state still found in the hot store treated as
+   * orphaned by a crashed cluster node and will be written by this node.
+   */
+  protected static final int    HOT_STORE_RECOVERY_PERIODS   = 30;
+
+  /** Thread name used for the hot store flusher. */
+  protected static final String HOT_STORE_THREAD_NAME        = "webconferencing-call-states-flusher";
+
+  /** The Constant USER_CACHE_NAME. */
+  public static final String    USER_CACHE_NAME              = "webconferencing.users.Cache".intern();
+
+  /** The Constant CALL_CACHE_NAME. */
+  public static final String    CALL_CACHE_NAME              = "webconferencing.calls.Cache".intern();
+
+  /** The Constant USER_CALLS_CACHE_NAME. */
+  public static final String    USER_CALLS_CACHE_NAME        = "webconferencing.usercalls.Cache".intern();
+
+  /** The Constant SPACE_CACHE_NAME. */
+  public static final String    SPACE_CACHE_NAME             = "webconferencing.spaces.Cache".intern();
+
+  /** The Constant CALL_STATES_CACHE_NAME. */
+  public static final String    CALL_STATES_CACHE_NAME       = "webconferencing.callstates.Cache".intern();
+
+  /** The Constant PROVIDER_CACHE_NAME. */
+  public static final String    PROVIDER_CACHE_NAME          = "webconferencing.providers.Cache".intern();
+
+  /** The key of provider configurations snapshot in the providers cache. */
+  protected static final String PROVIDER_CONFIGS_KEY         = "configurations";
+
+  /**
+   * Number of not cached users loaded by a single thread when resolving group members. Bigger groups will be
+   * split on chunks of this size and loaded in parallel.
+   */
+  protected static final int    USERS_LOAD_CHUNK_SIZE        = 100;
+
+  /** Maximum number of threads loading not cached users in parallel. */
+  protected static final int    USERS_LOAD_MAX_THREADS       = 4;
+
+  /** Thread name used for users loading executor. */
+  protected static final String USERS_LOAD_THREAD_PREFIX     = "webconferencing-users-thread-";
+
+  /** Max attempts of a call operation conflicted with concurrent updates of the call or its participants. */
+  protected static final int    CALL_UPDATE_MAX_ATTEMPTS     = 5;
+
+  /** Max pause in milliseconds before a next attempt of a conflicted call operation, it grows with attempts. */
+  protected static final long   CALL_UPDATE_CONFLICT_PAUSE   = 20;
+
+  /** Number of calls (or invited calls) purged in a single transaction by the calls janitor. */
+  protected static final int    CALLS_PURGE_CHUNK_SIZE       = 500;
+
+  /** Pause in milliseconds between purge chunks, it lets other transactions to acquire the locks. */
+  protected static final long   CALLS_PURGE_PAUSE            = 200;
+
+  /** Delay in seconds of the first calls purge after the service start. */
+  protected static final long   CALLS_PURGE_INITIAL_DELAY    = 60;
+
+  /** Period in hours between calls purges. */
+  protected static final long   CALLS_PURGE_PERIOD           = 12;
+
+  /**
+   * Number of calls moved to the archive in a single transaction by the calls janitor. It's less than for
+   * purge as each group call is copied with all its participants.
+   */
+  protected static final int    CALLS_ARCHIVE_CHUNK_SIZE     = 100;
+
+  /** Thread name used for calls janitor. */
+  protected static final String CALLS_PURGE_THREAD_NAME      = "webconferencing-calls-janitor";
+
+  /** Maximum number of threads delivering call events to user listeners. */
+  protected static final int    EVENTS_DISPATCH_MAX_THREADS  = 4;
+
+  /** Thread name prefix used for call events dispatcher. */
+  protected static final String EVENTS_DISPATCH_THREAD_PREFIX = "webconferencing-events-thread-";
+
+  /** Time in milliseconds to deliver already queued call events on the service stop. */
+  protected static final long   EVENTS_DISPATCH_STOP_TIMEOUT = 5000;
+
+  /** Thread name used for roster coalescer of large group calls. */
+  protected static final String ROSTER_COALESCER_THREAD_NAME = "webconferencing-roster-coalescer";
+
   /**
    * Represent Space in calls.
    */
@@ -208,6 +366,16 @@ public class WebConferencingService implements Startable {
       this.groupId = socialSpace.getGroupId();
     }
 
+    /**
+     * Instantiates a new space info.
+     *
+     * @param space the cached space data
+     */
+    public SpaceInfo(SpaceData space) {
+      super(space.getPrettyName(), space.getDisplayName());
+      this.groupId = space.getGroupId();
+    }
+
     /**
      * Gets the group id of the space.
      *
@@ -244,6 +412,16 @@ public class WebConferencingService implements Startable {
       this.groupId = socialSpace.getGroupId();
     }
 
+    /**
+     * Instantiates a new space event info.
+     *
+     * @param space the cached space data
+     */
+    public SpaceEventInfo(SpaceData space) {
+      super(space.getPrettyName(), space.getDisplayName());
+      this.groupId = space.getGroupId();
+    }
+
     /**
      * Gets the group id of the space.
      *
@@ -287,6 +465,118 @@ public class WebConferencingService implements Startable {
     }
   }
 
+  /**
+   * The listener of providers cache events to apply provider configurations saved on other cluster nodes.
+   */
+  class ProvidersCacheListener implements CacheListener<String, ProviderConfigsData> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPut(CacheListenerContext context, String key, ProviderConfigsData obj) throws Exception {
+      if (obj != null && PROVIDER_CONFIGS_KEY.equals(key)) {
+        providerConfigs = obj;
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onExpire(CacheListenerContext context, String key, ProviderConfigsData obj) throws Exception {
+      // Nothing: local snapshot remains actual until a next save
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRemove(CacheListenerContext context, String key, ProviderConfigsData obj) throws Exception {
+      // Nothing: local snapshot remains actual until a next save
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onClearCache(CacheListenerContext context) throws Exception {
+      // Nothing: local snapshot remains actual until a next save
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGet(CacheListenerContext context, String key, ProviderConfigsData obj) throws Exception {
+      // Nothing
+    }
+  }
+
+  /**
+   * Participants joined and leaved a call during a roster coalescing window. If a participant joined and
+   * leaved in the same window, only the last change will be kept.
+   */
+  protected static class RosterDelta {
+
+    /** The participant changes: <code>true</code> if joined, <code>false</code> if leaved. */
+    protected final Map<String, Boolean> parts = new LinkedHashMap<>();
+
+    /** The call to notify participants of, it's the last read state of the call. */
+    protected CallInfo                   call;
+
+    /** The closed flag, it's set when the delta taken for notification. */
+    protected boolean                    closed;
+
+    /**
+     * Adds a participant change. If the delta already closed, nothing will be added.
+     *
+     * @param call the call
+     * @param partId the participant id
+     * @param joined <code>true</code> if joined, <code>false</code> if leaved
+     * @return <code>true</code>, if added, <code>false</code> if the delta already closed
+     */
+    protected synchronized boolean add(CallInfo call, String partId, boolean joined) {
+      if (closed) {
+        return false;
+      }
+      this.call = call;
+      parts.remove(partId);
+      parts.put(partId, joined);
+      return true;
+    }
+
+    /**
+     * Close the delta, then nothing can be added to it.
+     */
+    protected synchronized void close() {
+      closed = true;
+    }
+
+    /**
+     * Gets participants by their change, should be used after closing the delta.
+     *
+     * @param joined <code>true</code> to get joined, <code>false</code> to get leaved
+     * @return the participant ids
+     */
+    protected synchronized String[] getParts(boolean joined) {
+      return parts.entrySet()
+                  .stream()
+                  .filter(e -> e.getValue().booleanValue() == joined)
+                  .map(Map.Entry::getKey)
+                  .toArray(String[]::new);
+    }
+
+    /**
+     * Gets the call.
+     *
+     * @return the call
+     */
+    protected synchronized CallInfo getCall() {
+      return call;
+    }
+  }
+
   /** The Constant ALL_USERS. */
   public static final String                         ALL_USERS              = "*";
 
@@ -368,6 +658,15 @@ public class WebConferencingService implements Startable {
   /** The invite storage. */
   protected final InviteDAO                          inviteStorage;
 
+  /** The archive of calls. */
+  protected final CallArchiveDAO                     callArchive;
+
+  /**
+   * The number of days after which stopped group calls will be moved to the archive, zero or negative if
+   * archiving disabled.
+   */
+  protected final int                                archiveDays;
+
   /** The providers. */
   protected final Map<String, CallProvider>          providers              = new ConcurrentHashMap<>();
 
@@ -378,7 +677,7 @@ public class WebConferencingService implements Startable {
   protected ShareDocumentService                     shareService;
 
   /** The user listeners. */
-  protected final Map<String, Set<UserCallListener>> userListeners          = new ConcurrentHashMap<>();
+  protected final UserCallListenerRegistry           userListeners          = new UserCallListenerRegistry();
 
   /** The upload service. */
   protected final UploadService                      uploadService;
@@ -401,6 +700,108 @@ public class WebConferencingService implements Startable {
   /** The Link manager. */
   protected final LinkManager                        linkManager;
 
+  /** The users cache. */
+  protected final ExoCache<String, UserData>         usersCache;
+
+  /** The users cache hits. */
+  protected final AtomicLong                         usersCacheHits         = new AtomicLong();
+
+  /** The users cache misses. */
+  protected final AtomicLong                         usersCacheMisses       = new AtomicLong();
+
+  /** The users loader. */
+  protected final ExecutorService                    usersLoader;
+
+  /** The number of call operations conflicted with concurrent updates. */
+  protected final AtomicLong                         callConflicts          = new AtomicLong();
+
+  /** The call events dispatcher delivering events to user listeners in background. */
+  protected final CallEventDispatcher                eventsDispatcher;
+
+  /** The call listeners notified once per participant event for all the call participants. */
+  protected final Set<CallListener>                  callListeners          = new CopyOnWriteArraySet<>();
+
+  /** The roster deltas of large group calls not yet notified, by call ID. */
+  protected final Map<String, RosterDelta>           rosterDeltas           = new ConcurrentHashMap<>();
+
+  /** The roster coalescer notifying participants of large group calls about joins and leaves by windows. */
+  protected final ScheduledExecutorService           rosterCoalescer;
+
+  /** The calls janitor purging expired calls in background. */
+  protected final ScheduledExecutorService           callsJanitor;
+
+  /** The calls purge running flag. */
+  protected final AtomicBoolean                      callsPurgeRunning      = new AtomicBoolean();
+
+  /** The number of expired user calls deleted by the janitor. */
+  protected final AtomicLong                         purgedCalls            = new AtomicLong();
+
+  /** The number of outdated group calls stopped by the janitor. */
+  protected final AtomicLong                         purgedGroupCalls       = new AtomicLong();
+
+  /** The number of orphaned invites deleted by the janitor. */
+  protected final AtomicLong                         purgedInvites          = new AtomicLong();
+
+  /** The number of stopped group calls moved to the archive by the janitor. */
+  protected final AtomicLong                         archivedCalls          = new AtomicLong();
+
+  /** The last calls purge start time. */
+  protected volatile long                            lastPurgeStart;
+
+  /** The last calls purge duration in milliseconds. */
+  protected volatile long                            lastPurgeDuration;
+
+  /** The last calls purge rate in rows per second. */
+  protected volatile double                          lastPurgeRate;
+
+  /** The calls cache. */
+  protected final ExoCache<String, CallData>         callsCache;
+
+  /** The calls cache invalidation stamps, calls should be removed from the cache through them. */
+  protected final CacheStamps<String, CallData>      callsStamps;
+
+  /**
+   * The hot call-state store: participant states of running calls not yet written to the storage, the
+   * key is built by {@link ParticipantStateData#key(String, String)}.
+   */
+  protected final ExoCache<String, ParticipantStateData> callStatesCache;
+
+  /** The participant states changed on this node and not yet written to the storage. */
+  protected final Map<String, ParticipantStateData>  pendingStates          = new ConcurrentHashMap<>();
+
+  /** If <code>true</code> then participant states will be kept in the hot store and written in background. */
+  protected final boolean                            hotStates;
+
+  /** The hot store flush period in milliseconds. */
+  protected final long                               statesFlushPeriod;
+
+  /** The hot store flusher, it's <code>null</code> if the hot store not enabled. */
+  protected final ScheduledExecutorService           statesFlusher;
+
+  /** The hot store flushes counter, used to run recovery each {@value #HOT_STORE_RECOVERY_PERIODS} flushes. */
+  protected final AtomicLong                         statesFlushes          = new AtomicLong();
+
+  /** The calls cache stats by operation. */
+  protected final Map<String, CacheStats>            callsCacheStats        = new ConcurrentHashMap<>();
+
+  /** The user calls cache: states of calls where an user participates. */
+  protected final ExoCache<String, UserCallsData>    userCallsCache;
+
+  /** The user calls cache invalidation stamps, user calls should be removed from the cache through them. */
+  protected final CacheStamps<String, UserCallsData> userCallsStamps;
+
+  /** The spaces cache: spaces with their members snapshot. */
+  protected final ExoCache<String, SpaceData>        spacesCache;
+
+  /** The spaces cache invalidation stamps, spaces should be removed from the cache through them. */
+  protected final CacheStamps<String, SpaceData>     spacesStamps;
+
+  /** The providers cache used to share provider configurations snapshot in cluster. */
+  protected final ExoCache<String, ProviderConfigsData> providersCache;
+
+  /** The provider configurations snapshot, <code>null</code> until first read. */
+  protected volatile ProviderConfigsData             providerConfigs;
+
   /**
    * Checks is ID valid (not null, not empty and not longer of {@value #ID_MAX_LENGTH} chars).
    *
@@ -464,6 +865,7 @@ public class WebConferencingService implements Startable {
    * @param participantsStorage the participants storage
    * @param originsStorage the origins storage
    * @param inviteStorage the invite storage
+   * @param callArchive the call archive
    * @param uploadService the upload service
    * @param repositoryService the repository service
    * @param sessionProviders the session providers
@@ -473,6 +875,7 @@ public class WebConferencingService implements Startable {
    * @param shareService the share service
    * @param initParams the initParams
    * @param linkManager the link manager
+   * @param cacheService the cache service
    */
   public WebConferencingService(OrganizationService organization,
                                 IdentityManager socialIdentityManager,
@@ -482,6 +885,7 @@ public class WebConferencingService implements Startable {
                                 ParticipantDAO participantsStorage,
                                 OriginDAO originsStorage,
                                 InviteDAO inviteStorage,
+                                CallArchiveDAO callArchive,
                                 UploadService uploadService,
                                 RepositoryService repositoryService,
                                 SessionProviderService sessionProviders,
@@ -490,7 +894,8 @@ public class WebConferencingService implements Startable {
                                 Authenticator authenticator,
                                 ShareDocumentService shareService,
                                 InitParams initParams,
-                                LinkManager linkManager) {
+                                LinkManager linkManager,
+                                CacheService cacheService) {
     this.organization = organization;
     this.socialIdentityManager = socialIdentityManager;
     this.listenerService = listenerService;
@@ -499,6 +904,7 @@ public class WebConferencingService implements Startable {
     this.participantsStorage = participantsStorage;
     this.originsStorage = originsStorage;
     this.inviteStorage = inviteStorage;
+    this.callArchive = callArchive;
     this.uploadService = uploadService;
     this.repositoryService = repositoryService;
     this.sessionProviders = sessionProviders;
@@ -509,9 +915,130 @@ public class WebConferencingService implements Startable {
     this.secretKey = jwtSecretParam.getProperty(SECRET_KEY);
     this.shareService = shareService;
     this.linkManager = linkManager;
+    this.usersCache = cacheService.getCacheInstance(USER_CACHE_NAME);
+    this.callsCache = cacheService.getCacheInstance(CALL_CACHE_NAME);
+    this.callsStamps = new CacheStamps<>(callsCache);
+    this.callStatesCache = cacheService.getCacheInstance(CALL_STATES_CACHE_NAME);
+    PropertiesParam callArchiveParam = initParams.getPropertiesParam(CALL_ARCHIVE_PROPERTIES);
+    String days = callArchiveParam != null ? callArchiveParam.getProperty(ARCHIVE_DAYS) : null;
+    int archiveDays;
+    try {
+      archiveDays = days != null ? Integer.parseInt(days.trim()) : ARCHIVE_DAYS_DEFAULT;
+    } catch (NumberFormatException e) {
+      LOG.warn("Wrong calls archive days: " + days + ", will use default " + ARCHIVE_DAYS_DEFAULT);
+      archiveDays = ARCHIVE_DAYS_DEFAULT;
+    }
+    this.archiveDays = archiveDays;
+    PropertiesParam callStateParam = initParams.getPropertiesParam(CALL_STATE_PROPERTIES);
+    if (callStateParam != null) {
+      this.hotStates = Boolean.parseBoolean(callStateParam.getProperty(HOT_STORE_ENABLED));
+      String flushPeriod = callStateParam.getProperty(HOT_STORE_FLUSH_PERIOD);
+      long period;
+      try {
+        period = flushPeriod != null ? Long.parseLong(flushPeriod.trim()) : HOT_STORE_FLUSH_PERIOD_DEFAULT;
+      } catch (NumberFormatException e) {
+        LOG.warn("Wrong hot store flush period: " + flushPeriod + ", will use default " + HOT_STORE_FLUSH_PERIOD_DEFAULT);
+        period = HOT_STORE_FLUSH_PERIOD_DEFAULT;
+      }
+      this.statesFlushPeriod = period > 0 ? period : HOT_STORE_FLUSH_PERIOD_DEFAULT;
+    } else {
+      this.hotStates = false;
+      this.statesFlushPeriod = HOT_STORE_FLUSH_PERIOD_DEFAULT;
+    }
+    if (hotStates) {
+      this.statesFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, HOT_STORE_THREAD_NAME);
+        t.setDaemon(true);
+        return t;
+      });
+    } else {
+      this.statesFlusher = null;
+    }
+    this.userCallsCache = cacheService.getCacheInstance(USER_CALLS_CACHE_NAME);
+    this.userCallsStamps = new CacheStamps<>(userCallsCache);
+    this.spacesCache = cacheService.getCacheInstance(SPACE_CACHE_NAME);
+    this.spacesStamps = new CacheStamps<>(spacesCache);
+    this.providersCache = cacheService.getCacheInstance(PROVIDER_CACHE_NAME);
+    this.providersCache.addCacheListener(new ProvidersCacheListener());
+    final AtomicInteger usersThreadNumber = new AtomicInteger();
+    this.usersLoader = Executors.newFixedThreadPool(Math.min(Runtime.getRuntime().availableProcessors(), USERS_LOAD_MAX_THREADS),
+                                                    r -> {
+                                                      Thread t = new Thread(r,
+                                                                            USERS_LOAD_THREAD_PREFIX
+                                                                                + usersThreadNumber.incrementAndGet());
+                                                      t.setDaemon(true);
+                                                      return t;
+                                                    });
+    this.eventsDispatcher = new CallEventDispatcher(EVENTS_DISPATCH_THREAD_PREFIX,
+                                                    Math.min(Runtime.getRuntime().availableProcessors(),
+                                                             EVENTS_DISPATCH_MAX_THREADS));
+    this.rosterCoalescer = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, ROSTER_COALESCER_THREAD_NAME);
+      t.setDaemon(true);
+      return t;
+    });
+    this.callsJanitor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, CALLS_PURGE_THREAD_NAME);
+      t.setDaemon(true);
+      t.setPriority(Thread.MIN_PRIORITY);
+      return t;
+    });
   }
 
+  /**
+   * Get the user info. User data will be read from the cache if found there or loaded from Organization and
+   * Social services otherwise. Returned object is a new instance and can be changed by the caller (e.g. set
+   * the state or client ID).
+   *
+   * @param id the user id
+   * @return the user info or <code>null</code> if user not found or disabled
+   * @throws IdentityStateException if error happened during searching the user in Organization Service
+   */
   protected UserInfo userInfo(String id) throws IdentityStateException {
+    UserData data = usersCache.get(id);
+    if (data != null) {
+      usersCacheHits.incrementAndGet();
+    } else {
+      usersCacheMisses.incrementAndGet();
+      data = loadUserData(id);
+      if (data != null) {
+        usersCache.put(id, data);
+      } else {
+        return null;
+      }
+    }
+    return userInfo(data);
+  }
+
+  /**
+   * Build a new user info from the user data. IM accounts resolved by providers will be taken from the
+   * user data index, it will be built if not yet done for actual provider configurations.
+   *
+   * @param data the user data
+   * @return the user info
+   */
+  protected UserInfo userInfo(UserData data) {
+    UserInfo info = new UserInfo(data.getId(), data.getFirstName(), data.getLastName());
+    // Add IMs accounts
+    ProviderConfigsData providersVersion = providerConfigs();
+    List<IMInfo> ims = data.getImAccounts(providersVersion);
+    if (ims == null) {
+      ims = data.indexImAccounts(providersVersion, getUserIMs(data.getIms()));
+    }
+    ims.forEach(im -> info.addImAccount(im));
+    info.setAvatarLink(data.getAvatarLink());
+    info.setProfileLink(LinkProvider.getUserProfileUri(data.getId()));
+    return info;
+  }
+
+  /**
+   * Load user data from Organization and Social services.
+   *
+   * @param id the user id
+   * @return the user data or <code>null</code> if user not found or disabled
+   * @throws IdentityStateException if error happened during searching the user in Organization Service
+   */
+  protected UserData loadUserData(String id) throws IdentityStateException {
     User user;
     try {
       user = organization.getUserHandler().findUserByName(id, UserStatus.ANY);
@@ -528,13 +1055,11 @@ public class WebConferencingService implements Startable {
                                                                                                                    true);
         if (userIdentity != null) {
           Profile socialProfile = userIdentity.getProfile();
-
-          UserInfo info = new UserInfo(user.getUserName(), user.getFirstName(), user.getLastName());
-          // Add IMs accounts
-          getUserIMs(socialProfile).forEach(im -> info.addImAccount(im));
-          info.setAvatarLink(socialProfile.getAvatarUrl());
-          info.setProfileLink(LinkProvider.getUserProfileUri(id));
-          return info;
+          return new UserData(user.getUserName(),
+                              user.getFirstName(),
+                              user.getLastName(),
+                              socialProfile.getAvatarUrl(),
+                              readProfileIMs(socialProfile));
         } else {
           LOG.warn("Social identity not found for " + user.getUserName() + " (" + user.getFirstName() + " " + user.getLastName()
               + ")");
@@ -547,6 +1072,183 @@ public class WebConferencingService implements Startable {
     }
     return null;
   }
+
+  /**
+   * Get the users info in a bulk operation. Given IDs will be deduplicated, cached users will be taken from
+   * the cache and not cached ones loaded from Organization and Social services (in parallel chunks for big
+   * groups). Each returned object is a new instance and can be changed by the caller.
+   *
+   * @param ids the user IDs
+   * @return the map of found users info in order of given IDs, not found or disabled users will not be
+   *         included
+   * @throws IdentityStateException if error happened during searching an user in Organization Service
+   */
+  protected Map<String, UserInfo> userInfos(Collection<String> ids) throws IdentityStateException {
+    Set<String> userIds = ids instanceof Set ? (Set<String>) ids : new LinkedHashSet<>(ids);
+    Map<String, UserData> found = new HashMap<>();
+    List<String> notCached = new ArrayList<>();
+    for (String id : userIds) {
+      UserData data = usersCache.get(id);
+      if (data != null) {
+        found.put(id, data);
+      } else {
+        notCached.add(id);
+      }
+    }
+    usersCacheHits.addAndGet(found.size());
+    usersCacheMisses.addAndGet(notCached.size());
+    if (notCached.size() > 0) {
+      Map<String, UserData> loaded = loadUsersData(notCached);
+      for (UserData data : loaded.values()) {
+        usersCache.put(data.getId(), data);
+      }
+      found.putAll(loaded);
+    }
+    Map<String, UserInfo> users = new LinkedHashMap<>();
+    for (String id : userIds) {
+      UserData data = found.get(id);
+      if (data != null) {
+        users.put(id, userInfo(data));
+      }
+    }
+    return users;
+  }
+
+  /**
+   * Load users data from Organization and Social services. If users count bigger of
+   * {@value #USERS_LOAD_CHUNK_SIZE} they will be loaded in parallel chunks.
+   *
+   * @param ids the user IDs
+   * @return the map of found users data
+   * @throws IdentityStateException if error happened during searching an user in Organization Service
+   */
+  protected Map<String, UserData> loadUsersData(List<String> ids) throws IdentityStateException {
+    Map<String, UserData> loaded = new HashMap<>();
+    if (ids.size() <= USERS_LOAD_CHUNK_SIZE) {
+      for (String id : ids) {
+        UserData data = loadUserData(id);
+        if (data != null) {
+          loaded.put(id, data);
+        }
+      }
+    } else {
+      final ExoContainer container = ExoContainerContext.getCurrentContainer();
+      List<Future<Map<String, UserData>>> chunks = new ArrayList<>();
+      for (int from = 0; from < ids.size(); from += USERS_LOAD_CHUNK_SIZE) {
+        final List<String> chunkIds = ids.subList(from, Math.min(from + USERS_LOAD_CHUNK_SIZE, ids.size()));
+        chunks.add(usersLoader.submit(() -> {
+          ExoContainer contextContainer = ExoContainerContext.getCurrentContainerIfPresent();
+          try {
+            // Container context for proper work of eXo services
+            ExoContainerContext.setCurrentContainer(container);
+            RequestLifeCycle.begin(container);
+            Map<String, UserData> chunk = new HashMap<>();
+            for (String id : chunkIds) {
+              UserData data = loadUserData(id);
+              if (data != null) {
+                chunk.put(id, data);
+              }
+            }
+            return chunk;
+          } finally {
+            RequestLifeCycle.end();
+            ExoContainerContext.setCurrentContainer(contextContainer);
+          }
+        }));
+      }
+      try {
+        for (Future<Map<String, UserData>> chunk : chunks) {
+          loaded.putAll(chunk.get());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IdentityStateException("Interrupted while loading users", e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IdentityStateException) {
+          throw (IdentityStateException) cause;
+        }
+        throw new IdentityStateException("Error loading users", cause);
+      } finally {
+        chunks.forEach(c -> c.cancel(true));
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Gets the space data from the spaces cache or, if not cached, read it from Social space service.
+   *
+   * @param spacePrettyName the space pretty name
+   * @return the space data or <code>null</code> if space not found
+   */
+  protected SpaceData spaceData(String spacePrettyName) {
+    SpaceData data = spacesCache.get(spacePrettyName);
+    if (data == null) {
+      // Space listeners may invalidate it while we read, then don't cache what we read
+      long stamp = spacesStamps.stamp(spacePrettyName);
+      Space socialSpace = spaceService.getSpaceByPrettyName(spacePrettyName);
+      if (socialSpace != null) {
+        data = new SpaceData(socialSpace);
+        spacesStamps.put(spacePrettyName, data, stamp);
+      }
+    }
+    return data;
+  }
+
+  /**
+   * Invalidate cached space info. Next read of the space will load actual data from Social space service.
+   *
+   * @param spacePrettyName the space pretty name
+   */
+  public void invalidateSpaceInfo(String spacePrettyName) {
+    if (spacePrettyName != null) {
+      spacesStamps.remove(spacePrettyName);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Space info invalidated: " + spacePrettyName);
+      }
+    }
+  }
+
+  /**
+   * Invalidate all cached spaces info.
+   */
+  public void invalidateSpacesInfo() {
+    spacesStamps.clear();
+  }
+
+  /**
+   * Invalidate cached user info. Next read of the user will load actual data from Organization and Social
+   * services.
+   *
+   * @param id the user id
+   */
+  public void invalidateUserInfo(String id) {
+    if (id != null) {
+      usersCache.remove(id);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("User info invalidated: " + id);
+      }
+    }
+  }
+
+  /**
+   * Gets the users cache hits count.
+   *
+   * @return the users cache hits
+   */
+  public long getUsersCacheHits() {
+    return usersCacheHits.get();
+  }
+
+  /**
+   * Gets the users cache misses count.
+   *
+   * @return the users cache misses
+   */
+  public long getUsersCacheMisses() {
+    return usersCacheMisses.get();
+  }
   
   /**
    * Gets the user info.
@@ -608,17 +1310,34 @@ public class WebConferencingService implements Startable {
    * @throws IdentityStateException if error reading space member in Organization Service
    */
   protected SpaceInfo spaceInfo(String spacePrettyName, String callId) throws IdentityStateException {
-    Space socialSpace = spaceService.getSpaceByPrettyName(spacePrettyName);
-    SpaceInfo space = new SpaceInfo(socialSpace);
-    for (String sm : socialSpace.getMembers()) {
-      UserInfo user = userInfo(sm);
-      if (user != null) {
-        space.addMember(user);
-      } else {
-        LOG.warn("Skipped not found space member " + sm + " of " + spacePrettyName);
-        // for space we have members from inside, thus if it is not found, we ignore him assuming space
-        // should be consistent
+    return spaceInfo(spacePrettyName, callId, false);
+  }
+
+  /**
+   * Space info.
+   *
+   * @param spacePrettyName the space pretty name
+   * @param callId the call id
+   * @param lazy if <code>true</code> then space members will be resolved on first access to them
+   * @return the space info
+   * @throws IdentityStateException if error reading space member in Organization Service
+   */
+  protected SpaceInfo spaceInfo(String spacePrettyName, String callId, boolean lazy) throws IdentityStateException {
+    SpaceData socialSpace = spaceData(spacePrettyName);
+    SpaceInfo space = new SpaceInfo(socialSpace);
+    space.setMembers(socialSpace.getMembers(), ids -> {
+      Map<String, UserInfo> users = userInfos(ids);
+      for (String sm : ids) {
+        if (!users.containsKey(sm)) {
+          LOG.warn("Skipped not found space member " + sm + " of " + spacePrettyName);
+          // for space we have members from inside, thus if it is not found, we ignore him assuming space
+          // should be consistent
+        }
       }
+      return users;
+    });
+    if (!lazy) {
+      space.loadMembers();
     }
     space.setProfileLink(socialSpace.getUrl());
     space.setAvatarLink(socialSpace.getAvatarUrl());
@@ -637,37 +1356,61 @@ public class WebConferencingService implements Startable {
    * @throws IdentityStateException the identity state exception
    */
   protected SpaceEventInfo spaceEventInfo(String spacePrettyName, String callId, String[] participants, String[] spaces) throws IdentityStateException {
-    Space socialSpaceHost = spaceService.getSpaceByPrettyName(spacePrettyName);
+    return spaceEventInfo(spacePrettyName, callId, participants, spaces, false);
+  }
+
+  /**
+   * Space event info.
+   *
+   * @param spacePrettyName the space pretty name
+   * @param callId the call id
+   * @param participants the participants user names
+   * @param spaces an array of space pretty names
+   * @param lazy if <code>true</code> then event members will be resolved on first access to them
+   * @return the space info
+   * @throws IdentityStateException the identity state exception
+   */
+  protected SpaceEventInfo spaceEventInfo(String spacePrettyName,
+                                          String callId,
+                                          String[] participants,
+                                          String[] spaces,
+                                          boolean lazy) throws IdentityStateException {
+    SpaceData socialSpaceHost = spaceData(spacePrettyName);
     SpaceEventInfo spaceEvent = new SpaceEventInfo(socialSpaceHost);
     
     // Merge the host space, given spaces and participants.
     Set<String> allSpaces = new LinkedHashSet<>();
     allSpaces.add(spacePrettyName);
     allSpaces.addAll(Arrays.asList(spaces));
-    // 1) host space & 2) invited spaces
+    // 1) host space & 2) invited spaces: members deduplicated across all spaces
+    Set<String> spacesMembers = new LinkedHashSet<>();
     for (String s : allSpaces) {
-      Space socialSpace = spaceService.getSpaceByPrettyName(s);
+      SpaceData socialSpace = s.equals(spacePrettyName) ? socialSpaceHost : spaceData(s);
       if (socialSpace != null) {
-        for (String sm : socialSpace.getMembers()) {
-          UserInfo user = userInfo(sm);
-          if (user != null) {
-            spaceEvent.addMember(user);
-          } else {
-            LOG.warn("Skipped not found space member as participant " + sm + " for space event in " + spacePrettyName);
-          }
-        }
+        spacesMembers.addAll(socialSpace.getMembers());
       } else {
         LOG.warn("Skipped not found space " + s + " for event in " + spacePrettyName);
       }
     }
     // 3) explicit parties go last to remain in the members with isDirect flag
-    for (String p : participants) {
-      UserInfo user = userInfo(p);
-      if (user != null) {
-        spaceEvent.addMember(user);
-      } else {
-        LOG.warn("Skipped not found participant " + p + " for space event in " + spacePrettyName);
+    Set<String> allMembers = new LinkedHashSet<>(spacesMembers);
+    allMembers.addAll(Arrays.asList(participants));
+    spaceEvent.setMembers(allMembers, ids -> {
+      // Resolve all the users at once
+      Map<String, UserInfo> users = userInfos(ids);
+      for (String m : ids) {
+        if (!users.containsKey(m)) {
+          if (spacesMembers.contains(m)) {
+            LOG.warn("Skipped not found space member as participant " + m + " for space event in " + spacePrettyName);
+          } else {
+            LOG.warn("Skipped not found participant " + m + " for space event in " + spacePrettyName);
+          }
+        }
       }
+      return users;
+    });
+    if (!lazy) {
+      spaceEvent.loadMembers();
     }
     
     spaceEvent.setProfileLink(socialSpaceHost.getUrl());
@@ -701,18 +1444,41 @@ public class WebConferencingService implements Startable {
    * @throws IdentityStateException if user cannot be read
    */
   protected RoomInfo roomInfo(String id, String title, String[] members, String callId) throws IdentityStateException {
+    return roomInfo(id, title, members, callId, false);
+  }
+
+  /**
+   * Room info.
+   *
+   * @param id the id
+   * @param title the title
+   * @param members the members
+   * @param callId the call id
+   * @param lazy if <code>true</code> then room members will be resolved on first access to them
+   * @return the room info
+   * @throws IdentityStateException if user cannot be read
+   */
+  protected RoomInfo roomInfo(String id, String title, String[] members, String callId, boolean lazy) throws IdentityStateException {
     RoomInfo room = new RoomInfo(id, title);
-    for (String userName : members) {
-      UserInfo user = userInfo(userName);
-      if (user != null) {
-        room.addMember(user);
-      } else {
-        if (LOG.isDebugEnabled()) {
-          LOG.debug("External room member " + userName + " for '" + title + "'");
+    room.setMembers(Arrays.asList(members), ids -> {
+      Map<String, UserInfo> users = userInfos(ids);
+      Map<String, UserInfo> roomMembers = new LinkedHashMap<>();
+      for (String userName : ids) {
+        UserInfo user = users.get(userName);
+        if (user != null) {
+          roomMembers.put(userName, user);
+        } else {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("External room member " + userName + " for '" + title + "'");
+          }
+          // for chat room we have members from outside, if not eXo user - add it as external participant
+          roomMembers.put(userName, new ParticipantInfo(userName));
         }
-        // for chat room we have members from outside, if not eXo user - add it as external participant
-        room.addMember(new ParticipantInfo(userName));
       }
+      return roomMembers;
+    });
+    if (!lazy) {
+      room.loadMembers();
     }
     room.setProfileLink(IdentityInfo.EMPTY);
     room.setAvatarLink(LinkProvider.SPACE_DEFAULT_AVATAR_URL);
@@ -798,28 +1564,6 @@ public class WebConferencingService implements Startable {
               final boolean isRoom = OWNER_TYPE_CHATROOM.equals(ownerType);
               final boolean isGroup = isSpace || isRoom || isSpaceEvent;
 
-              // TODO find a way to create a call in a single transaction (everything including
-              // cleanup/deletion of an outdated). As for this moment, it fails to create a new call if some
-              // call ID was deleted prior. See comment for clearing storage session below in this method.
-
-              // Check if group doesn't have a call with another ID assigned
-              // But space events can have many calls
-              if (isGroup && !isSpaceEvent) {
-                // it's group call
-                String prevId = findGroupCallId(ownerId);
-                if (prevId != null && !prevId.equals(id)) {
-                  // XXX For a case when some client failed to delete an existing (but outdated etc.) call but
-                  // already starting a new one.
-                  // It's SfB usecase when browser client failed to delete outdated call (browser/plugin
-                  // crashed in IE11) and then starts a new one.
-                  deleteCall(prevId);
-                  LOG.warn("Deleted outdated group call: " + prevId);
-                }
-              }
-
-              // Ensure we can create this call
-              invalidateCall(id, isGroup);
-
               IdentityInfo owner;
               if (start && isGroup) {
                 // If call will start, we need the owner with resolved members (see below)
@@ -867,8 +1611,9 @@ public class WebConferencingService implements Startable {
                 call.setLastDate(Calendar.getInstance().getTime());
               }
 
-              // Create the call in storage, handle conflicts if required
-              createCall(call);
+              // Create the call in storage, replace outdated calls and handle conflicts if required.
+              // Check if group doesn't have a call with another ID assigned, but space events can have many calls.
+              createCall(call, isGroup && !isSpaceEvent);
               
               if (start) {
                 // Notify *actual* participants (about started call)
@@ -877,10 +1622,11 @@ public class WebConferencingService implements Startable {
                   // 1) resolve origins (owner's members of space/room) to actual participants (this should be done in createCall())
                   // 2) send them notifications if applicable (not for event calls)
                   // fire group's user listener for incoming, except of the caller
+                  CallEvent event = CallEvent.callState(id, providerType, CallState.STARTED, ownerId, ownerType);
                   for (UserInfo part : call.getParticipants()) {
                     if (UserInfo.TYPE_NAME.equals(part.getType())) {
                       if (!currentUserId.equals(part.getId())) {
-                        fireUserCallStateChanged(part.getId(), id, providerType, CallState.STARTED, ownerId, ownerType);
+                        fireUserCallEvent(part.getId(), event);
                       }
                     }
                   }
@@ -998,6 +1744,7 @@ public class WebConferencingService implements Startable {
         // TODO why not reuse existing call object and update only actually passed to this method?
         CallInfo call = new CallInfo(callId, title, owner, providerType);
         call.setLastDate(currentCall.getLastDate());
+        call.setVersion(currentCall.getVersion());
         
         // We update origins not actual participants (they will be resolved on demand, e.g. in getCall())
         call.addOrigins(createOrigins(providerType, partIds, spaces));
@@ -1096,7 +1843,7 @@ public class WebConferencingService implements Startable {
     if (spacePrettyNames != null) {
       for (String gid : spacePrettyNames) {
         if (isValidId(gid)) {
-          Space space = spaceService.getSpaceByPrettyName(gid);
+          SpaceData space = spaceData(gid);
           if (space != null) {
             origins.add(new OriginInfo(gid, OWNER_TYPE_SPACE));
           } else {
@@ -1152,7 +1899,7 @@ public class WebConferencingService implements Startable {
         throw new CallArgumentException("Wrong call owner (" + ownerId + ")");
       }
     } else if (isSpace) {
-      Space space = spaceService.getSpaceByPrettyName(ownerId);
+      SpaceData space = spaceData(ownerId);
       if (space != null) {
         owner = new SpaceInfo(space);
         owner.setProfileLink(space.getUrl());
@@ -1164,7 +1911,7 @@ public class WebConferencingService implements Startable {
         throw new CallArgumentException("Wrong call owner (" + ownerId + ")");
       }
     } else if (isSpaceEvent) {
-      Space space = spaceService.getSpaceByPrettyName(ownerId);
+      SpaceData space = spaceData(ownerId);
       if (space != null) {
         owner = new SpaceEventInfo(space);
         owner.setProfileLink(space.getUrl());
@@ -1192,13 +1939,34 @@ public class WebConferencingService implements Startable {
    * @throws InvalidCallException if call in erroneous state, see cause exception for details
    */
   public CallInfo getCall(String id) throws InvalidCallException {
+    return getCall(id, OPERATION_CALL_READ);
+  }
+
+  /**
+   * Gets an active call info for given operation.
+   *
+   * @param id the id
+   * @param operation the operation name (used for the cache stats)
+   * @return the call info or <code>null</code> if call not found
+   * @throws InvalidCallException if call in erroneous state, see cause exception for details
+   */
+  protected CallInfo getCall(String id, String operation) throws InvalidCallException {
     try {
-      return findCallById(id, true);
+      return findCallById(id, true, operation);
     } catch (CallSettingsException | CallOwnerException | StorageException | IdentityStateException e) {
       throw new InvalidCallException("Error getting call: " + id, e);
     }
   }
 
+  /**
+   * Gets the calls cache stats by operation.
+   *
+   * @return the calls cache stats, where key is an operation name
+   */
+  public Map<String, CacheStats> getCallsCacheStats() {
+    return Collections.unmodifiableMap(callsCacheStats);
+  }
+
   /**
    * Removes the call info from active and fires STOPPED event.
    *
@@ -1211,9 +1979,10 @@ public class WebConferencingService implements Startable {
    */
   public CallInfo stopCall(String callId, boolean remove) throws CallNotFoundException, InvalidCallException {
     final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
-      String userId = currentUserId();
+    CallInfo call = getCall(callId, OPERATION_CALL_STOPPED);
+    String userId = currentUserId();
+    // Read the call again and retry if it was updated concurrently
+    for (int attempt = 1; call != null; attempt++) {
       try {
         stopCall(call, userId, remove);
         broacastCallEvent(EVENT_CALL_STOPPED, call, userId);
@@ -1226,12 +1995,16 @@ public class WebConferencingService implements Startable {
           LOG.info(metricMessage(userId, call, OPERATION_CALL_STOPPED, STATUS_OK, System.currentTimeMillis() - opStart, null));
         }
         return call;
+      } catch (ConcurrentUpdateException e) {
+        if (!callConflict(userId, callId, OPERATION_CALL_STOPPED, attempt, e)) {
+          throw new InvalidCallException("Error stopping call: " + callId, e);
+        }
+        call = getCall(callId, OPERATION_CALL_STOPPED);
       } catch (StorageException e) {
         throw new InvalidCallException("Error stopping call: " + callId, e);
       }
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
     }
+    throw new CallNotFoundException("Call not found: " + callId);
   }
 
   /**
@@ -1244,27 +2017,35 @@ public class WebConferencingService implements Startable {
    */
   protected void stopCall(CallInfo call, String userId, boolean remove) throws StorageException {
     try {
-      // Stop the call in DB
-      txStopCall(call, remove);
+      // Stop the call in DB, with participant states not yet written there
+      if (remove) {
+        discardParticipantStates(call);
+      } else {
+        flushParticipantStates(call);
+      }
+      try {
+        txStopCall(call, remove);
+      } finally {
+        invalidateCallData(call.getId(), call.getParticipants());
+      }
       // Then notify users
       if (call.getOwner().isGroup()) {
-        String callId = call.getId();
+        CallEvent event = CallEvent.callState(call.getId(),
+                                              call.getProviderType(),
+                                              CallState.STOPPED,
+                                              call.getOwner().getId(),
+                                              call.getOwner().getType());
         for (UserInfo part : call.getParticipants()) {
           if (UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType())) {
             // It's eXo user: fire user listener for stopped call: we notify to all participants.
-            fireUserCallStateChanged(part.getId(),
-                                     callId,
-                                     call.getProviderType(),
-                                     CallState.STOPPED,
-                                     call.getOwner().getId(),
-                                     call.getOwner().getType());
+            fireUserCallEvent(part.getId(), event);
           }
         }
       } else {
         notifyUserCallStateChanged(call, userId, CallState.STOPPED);
       }
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error stopping call " + call.getId(), e);
+      throw storageError("Error stopping call " + call.getId(), e);
     }
   }
   
@@ -1280,11 +2061,12 @@ public class WebConferencingService implements Startable {
    */
   public CallInfo startCall(String callId, String clientId) throws CallNotFoundException, InvalidCallException {
     final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
+    CallInfo call = getCall(callId, OPERATION_CALL_STARTED);
+    // TODO use current user from the request (Comet) not an one system
+    String userId = currentUserId();
+    // Read the call again and retry if it or its participants were updated concurrently
+    for (int attempt = 1; call != null; attempt++) {
       try {
-        // TODO use current user from the request (Comet) not an one system
-        String userId = currentUserId();
         startCall(call, userId, clientId, true);
 
         broacastCallEvent(EVENT_CALL_STARTED, call, userId);
@@ -1292,12 +2074,16 @@ public class WebConferencingService implements Startable {
         // Log metrics - call started
         LOG.info(metricMessage(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null));
         return call;
+      } catch (ConcurrentUpdateException e) {
+        if (!callConflict(userId, callId, OPERATION_CALL_STARTED, attempt, e)) {
+          throw new InvalidCallException("Error starting call: " + callId, e);
+        }
+        call = getCall(callId, OPERATION_CALL_STARTED);
       } catch (StorageException | ParticipantNotFoundException | CallSettingsException e) {
         throw new InvalidCallException("Error starting call: " + callId, e);
       }
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
     }
+    throw new CallNotFoundException("Call not found: " + callId);
   }
 
   /**
@@ -1324,7 +2110,7 @@ public class WebConferencingService implements Startable {
     call.setLastDate(Calendar.getInstance().getTime());
 
     // Sync call participants (actual for groups only) - this will happen in a dedicated DB tx
-    syncMembersAndParticipants(call);
+    syncMembersAndParticipants(call, partId);
 
     // On call start we mark all parts LEAVED and then each of them will join and be marked as JOINED in joinCall()
     for (UserInfo part : call.getParticipants()) {
@@ -1336,6 +2122,8 @@ public class WebConferencingService implements Startable {
         part.setClientId(null);
       }
     }
+    // States of the previous call session don't matter anymore, they will be replaced by the above
+    discardParticipantStates(call);
     updateCallAndParticipants(call);
 
     // Dec 3, 2020: Optionally notify the call started
@@ -1344,13 +2132,13 @@ public class WebConferencingService implements Startable {
       // For P2P call we need only inform another peer and this loop does the work perfectly
       Collection<UserInfo> parts = call.getOwner().isGroup() ? GroupInfo.class.cast(call.getOwner()).getMembers().values()
                                                              : call.getParticipants();
+      CallEvent event = CallEvent.callState(callId,
+                                            call.getProviderType(),
+                                            CallState.STARTED,
+                                            call.getOwner().getId(),
+                                            call.getOwner().getType());
       for (UserInfo part : parts) {
-        fireUserCallStateChanged(part.getId(),
-                                 callId,
-                                 call.getProviderType(),
-                                 CallState.STARTED,
-                                 call.getOwner().getId(),
-                                 call.getOwner().getType());
+        fireUserCallEvent(part.getId(), event);
       }
     }
   }
@@ -1359,6 +2147,7 @@ public class WebConferencingService implements Startable {
    * Update participants of the call.
    * Used to update current participants of call with provided user IDs. 
    * Use this method to sycn a group call associated with external apps like eXo Chat.
+   * Only added and removed participants will be saved, and if the call is started, only the added ones notified.
    *
    * @param callId the call id
    * @param partIds the participants ids
@@ -1388,10 +2177,17 @@ public class WebConferencingService implements Startable {
     try {
       CallInfo call = findCallById(callId, false); // don't read participants and add all new below
       if (call != null) {
+        ChangeSet changes = null;
         try {
-          txUpdateParticipants(call, userInfos);
+          changes = txUpdateParticipants(call, userInfos);
         } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
           throw new StorageException("Error updating participants of the call " + callId, e);
+        } finally {
+          if (changes != null) {
+            invalidateCallData(callId, changes);
+          } else {
+            invalidateCallData(callId, userInfos);
+          }
         }
         return call;
       } else {
@@ -1424,6 +2220,8 @@ public class WebConferencingService implements Startable {
         txAddParticipant(callId, userInfo);
       } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
         throw new StorageException("Error adding participant to call " + callId, e);
+      } finally {
+        invalidateCallData(callId, Collections.singleton(userInfo));
       }
     } else {
       throw new CallArgumentException("Participant user cannot be found: " + partId);
@@ -1454,6 +2252,8 @@ public class WebConferencingService implements Startable {
         txAddParticipant(callIId, guestInfo);
       } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
         throw new StorageException("Error adding guest to call " + callIId, e);
+      } finally {
+        invalidateCallData(callIId, Collections.singleton(guestInfo));
       }
       call.addParticipant(guestInfo);
       return call;
@@ -1483,6 +2283,9 @@ public class WebConferencingService implements Startable {
         return call;
       } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
         throw new StorageException("Error updating invites of call " + callId, e);
+      } finally {
+        // Invites don't change calls of the participants, only the call data (invite ID) may change
+        callsStamps.remove(callId);
       }
     } else {
       throw new CallNotFoundException("Call not found: " + callId);
@@ -1504,8 +2307,9 @@ public class WebConferencingService implements Startable {
    */
   public CallInfo joinCall(String callId, String partId, String clientId) throws InvalidCallException, CallNotFoundException, IdentityStateException, CallArgumentException {
     final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
-    if (call != null) {
+    CallInfo call = getCall(callId, OPERATION_CALL_JOINED);
+    // Read the call again and retry if it was started or stopped concurrently
+    for (int attempt = 1; call != null; attempt++) {
       try {
         if (CallState.STARTED.equals(call.getState())) {
           // Call already started - join the participant to it
@@ -1524,10 +2328,10 @@ public class WebConferencingService implements Startable {
           if (joined != null) {
             // First save the call with joined participant (in single tx)
             try {
-              updateParticipant(callId, joined);
+              updateParticipantState(call, joined);
             } catch(ParticipantNotFoundException e) {
               // XXX check if this participant not from group's origins
-              if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).getMembers().keySet().contains(partId)) {
+              if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).hasMember(partId)) {
                 addParticipant(callId, partId);
               } else {
                 throw new ParticipantNotFoundException("Cannot join the call with not allowed participant: " + partId 
@@ -1535,14 +2339,7 @@ public class WebConferencingService implements Startable {
               }
             }
             // Then fire this user joined to all parts, including the user itself
-            for (UserInfo part : call.getParticipants()) {
-              fireUserCallJoined(callId,
-                                 call.getProviderType(),
-                                 call.getOwner().getId(),
-                                 call.getOwner().getType(),
-                                 partId,
-                                 part.getId());
-            }
+            notifyCallRosterChanged(call, partId, true);
             broacastCallEvent(EVENT_CALL_JOINDED, call, partId);
 
             // Log metrics - call joined
@@ -1562,13 +2359,17 @@ public class WebConferencingService implements Startable {
           // Log metrics - call started
           LOG.info(metricMessage(userId, call, OPERATION_CALL_STARTED, STATUS_OK, System.currentTimeMillis() - opStart, null));
         }
+        return call;
+      } catch (ConcurrentUpdateException e) {
+        if (!callConflict(partId, callId, OPERATION_CALL_JOINED, attempt, e)) {
+          throw new InvalidCallException("Error joining call: " + callId, e);
+        }
+        call = getCall(callId, OPERATION_CALL_JOINED);
       } catch (CallSettingsException | ParticipantNotFoundException | StorageException e) {
         throw new InvalidCallException("Error joining call: " + callId, e);
       }
-      return call;
-    } else {
-      throw new CallNotFoundException("Call not found: " + callId);
     }
+    throw new CallNotFoundException("Call not found: " + callId);
   }
 
   /**
@@ -1584,13 +2385,12 @@ public class WebConferencingService implements Startable {
    */
   public CallInfo leaveCall(String callId, String partId, String clientId) throws InvalidCallException {
     final long opStart = System.currentTimeMillis();
-    CallInfo call = getCall(callId);
+    CallInfo call = getCall(callId, OPERATION_CALL_LEAVED);
     if (call != null) {
       try {
         if (CallState.STARTED.equals(call.getState()) || CallState.PAUSED.equals(call.getState())) {
           UserInfo leaved = null;
           boolean isGuestLeaved = false;
-          int leavedNum = 0;
           for (UserInfo part : call.getParticipants()) {
             boolean partIsGuest = GuestInfo.TYPE_NAME.equals(part.getType());
             if (UserInfo.TYPE_NAME.equals(part.getType()) || partIsGuest) {
@@ -1603,12 +2403,7 @@ public class WebConferencingService implements Startable {
                 if (partIsGuest) {
                   isGuestLeaved = true; 
                 }
-                leavedNum++;
-              } else {
-                // if null - user hasn't joined
-                if (part.getState() == null || UserState.LEAVED.equals(part.getState())) {
-                  leavedNum++;
-                }
+                break;
               }
             }
           }
@@ -1618,54 +2413,16 @@ public class WebConferencingService implements Startable {
             if (isGuestLeaved) {
               removeParticipant(callId, leaved);
             } else {
-              updateParticipant(callId, leaved);
+              updateParticipantState(call, leaved);
             }
             // Fire user leaved to all parts, including the user itself
-            for (UserInfo part : call.getParticipants()) {
-              // Fire user leaved to all parts, including the user itself
-              fireUserCallLeaved(callId,
-                                 call.getProviderType(),
-                                 call.getOwner().getId(),
-                                 call.getOwner().getType(),
-                                 partId,
-                                 part.getId());
-            }
+            notifyCallRosterChanged(call, partId, false);
 
             broacastCallEvent(EVENT_CALL_LEFT, call, partId);
             // Log metrics - call leaved
             LOG.info(metricMessage(partId, call, OPERATION_CALL_LEAVED, STATUS_OK, System.currentTimeMillis() - opStart, null));
             // Check if don't need stop the call if all parts leaved already
-            if (call.getOwner().isGroup()) {
-              if (leavedNum == call.getParticipants().size() || call.getParticipants().size() == 0
-                  || call.getParticipants().stream().allMatch(p -> p.getState() == null || UserState.LEAVED.equals(p.getState()))
-                  /*|| call.getParticipants().stream().allMatch(p -> p.getType() == GuestInfo.TYPE_NAME)*/) {
-                // Stop when all group members leave the call
-                // TODO it would be better UX when we let guest to run the call even without exo users,
-                // but then need find a proper way of stopping the call if guests will not leave finally via API (network errors, server crashes etc).
-                stopCall(call, partId, false);
-
-                broacastCallEvent(EVENT_CALL_STOPPED, call, partId);
-                // Log metrics - call stopped
-                LOG.info(metricMessage(partId,
-                                       call,
-                                       OPERATION_CALL_STOPPED,
-                                       STATUS_OK,
-                                       System.currentTimeMillis() - opStart,
-                                       null));
-              }
-            } else if (call.getParticipants().size() - leavedNum <= 1) {
-              // For P2P we remove the call when one of parts stand alone
-              stopCall(call, partId, true);
-
-              broacastCallEvent(EVENT_CALL_STOPPED, call, partId);
-              // Log metrics - call deleted
-              LOG.info(metricMessage(partId,
-                                     call,
-                                     OPERATION_CALL_DELETED,
-                                     STATUS_OK,
-                                     System.currentTimeMillis() - opStart,
-                                     null));
-            }
+            stopLeftCall(call, partId, opStart);
           } // else, if no one leaved, we don't need any action (it may be leaved an user of already stopped
             // call, see comments above)
         } // It seems has no big sense to return error for already stopped call
@@ -1679,20 +2436,135 @@ public class WebConferencingService implements Startable {
   }
 
   /**
-   * Gets the user calls.
+   * Stop the call if all its participants leaved it: group call will be stopped, P2P call will be removed.
+   * If the call was updated concurrently (e.g. someone joined it), it will be read again and stopped only if
+   * still leaved.
+   *
+   * @param call the call
+   * @param partId the participant id who leaved the call
+   * @param opStart the leave operation start time
+   * @throws StorageException if storage exception happen
+   * @throws InvalidCallException if call in erroneous state and cannot be read again
+   */
+  protected void stopLeftCall(CallInfo call, String partId, long opStart) throws StorageException, InvalidCallException {
+    String callId = call.getId();
+    for (int attempt = 1; call != null && isCallLeft(call); attempt++) {
+      boolean remove = !call.getOwner().isGroup();
+      try {
+        // Stop when all group members leave the call, for P2P we remove the call when one of parts stand alone
+        // TODO it would be better UX when we let guest to run the group call even without exo users,
+        // but then need find a proper way of stopping the call if guests will not leave finally via API (network errors, server crashes etc).
+        stopCall(call, partId, remove);
+
+        broacastCallEvent(EVENT_CALL_STOPPED, call, partId);
+        // Log metrics - call deleted or stopped
+        LOG.info(metricMessage(partId,
+                               call,
+                               remove ? OPERATION_CALL_DELETED : OPERATION_CALL_STOPPED,
+                               STATUS_OK,
+                               System.currentTimeMillis() - opStart,
+                               null));
+        return;
+      } catch (ConcurrentUpdateException e) {
+        if (!callConflict(partId, callId, OPERATION_CALL_STOPPED, attempt, e)) {
+          throw e;
+        }
+        call = getCall(callId, OPERATION_CALL_LEAVED);
+      }
+    }
+  }
+
+  /**
+   * Checks if the running call was leaved by its participants: all of them for a group call, or all except
+   * one for P2P call.
+   *
+   * @param call the call
+   * @return true, if call is leaved
+   */
+  protected boolean isCallLeft(CallInfo call) {
+    if (CallState.STARTED.equals(call.getState()) || CallState.PAUSED.equals(call.getState())) {
+      int leavedNum = 0;
+      for (UserInfo part : call.getParticipants()) {
+        if (UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType())) {
+          // if null - user hasn't joined
+          if (part.getState() == null || UserState.LEAVED.equals(part.getState())) {
+            leavedNum++;
+          }
+        }
+      }
+      if (call.getOwner().isGroup()) {
+        return leavedNum == call.getParticipants().size() || call.getParticipants().size() == 0
+            || call.getParticipants().stream().allMatch(p -> p.getState() == null || UserState.LEAVED.equals(p.getState()))
+            /*|| call.getParticipants().stream().allMatch(p -> p.getType() == GuestInfo.TYPE_NAME)*/;
+      } else {
+        return call.getParticipants().size() - leavedNum <= 1;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the user calls. Call states are read from the user calls cache or, if not cached, only IDs and
+   * states of the calls will be read from the storage (without call owners, participants or invites).
    *
    * @param userId the user id
    * @return the user call states
    * @throws StorageException if persistence error happen
    */
   public CallState[] getUserCalls(String userId) throws StorageException {
-    // TODO it's not efficient to read whole Call info when we need only its ID and state
-    CallState[] states =
-                       findUserGroupCalls(userId).stream()
-                                                 .map(c -> new CallState(c.getId(),
-                                                                         c.getState() != null ? c.getState() : CallState.STOPPED))
-                                                 .toArray(size -> new CallState[size]);
-    return states;
+    UserCallsData data = userCallsCache.get(userId);
+    if (data == null) {
+      try {
+        long stamp = userCallsStamps.stamp(userId);
+        CallState[] states = callStorage.findUserCallStates(userId)
+                                        .stream()
+                                        .map(c -> new CallState(c.getId(),
+                                                                c.getState() != null ? c.getState() : CallState.STOPPED))
+                                        .toArray(size -> new CallState[size]);
+        data = new UserCallsData(states);
+        userCallsStamps.put(userId, data, stamp);
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        throw new StorageException("Error reading user calls by " + userId, e);
+      }
+    }
+    return data.getCalls();
+  }
+
+  /**
+   * Get history of calls of given owner (space, chat room, event etc.): calls moved to the archive, most
+   * recent first. Calls not yet archived can be read by {@link #getCall(String)}.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param offset the offset
+   * @param limit the max number of calls to return
+   * @return the call records, empty if nothing archived
+   * @throws StorageException if persistence error happen
+   */
+  public List<CallRecord> getCallHistory(String ownerId, String ownerType, int offset, int limit) throws StorageException {
+    try {
+      return readCallRecords(callArchive.findOwnerCalls(ownerId, ownerType, offset, limit));
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error reading calls history of " + ownerType + " " + ownerId, e);
+    }
+  }
+
+  /**
+   * Get history of calls where given user participated: calls moved to the archive, most recent first.
+   * Calls not yet archived can be read by {@link #getUserCalls(String)}.
+   *
+   * @param userId the user id
+   * @param offset the offset
+   * @param limit the max number of calls to return
+   * @return the call records, empty if nothing archived
+   * @throws StorageException if persistence error happen
+   */
+  public List<CallRecord> getUserCallHistory(String userId, int offset, int limit) throws StorageException {
+    try {
+      return readCallRecords(callArchive.findUserCalls(userId, offset, limit));
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error reading calls history of user " + userId, e);
+    }
   }
 
   /**
@@ -1701,8 +2573,7 @@ public class WebConferencingService implements Startable {
    * @param listener the listener
    */
   public void addUserCallListener(UserCallListener listener) {
-    final String userId = listener.getUserId();
-    userListeners.computeIfAbsent(userId, k -> new LinkedHashSet<>()).add(listener);
+    userListeners.add(listener);
   }
 
   /**
@@ -1711,82 +2582,155 @@ public class WebConferencingService implements Startable {
    * @param listener the listener
    */
   public void removeUserCallListener(UserCallListener listener) {
-    final String userId = listener.getUserId();
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      listeners.remove(listener);
-    }
+    userListeners.remove(listener);
   }
 
   /**
-   * Fire user call state.
+   * Adds the call listener. When at least one call listener registered, participant events of running
+   * calls will be delivered to call listeners, and user listeners will receive only own joins and leaves of
+   * their users.
    *
-   * @param userId the user id
-   * @param callId the call id
-   * @param providerType the provider type
-   * @param callState the call state
-   * @param ownerId the caller id
-   * @param ownerType the caller type
+   * @param listener the listener
    */
-  protected void fireUserCallStateChanged(String userId,
-                                          String callId,
-                                          String providerType,
-                                          String callState,
-                                          String ownerId,
-                                          String ownerType) {
-    // Synchronize on userListeners to have a consistent list of listeners to fire
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onCallStateChanged(callId, providerType, callState, ownerId, ownerType);
+  public void addCallListener(CallListener listener) {
+    callListeners.add(listener);
+  }
+
+  /**
+   * Removes the call listener.
+   *
+   * @param listener the listener
+   */
+  public void removeCallListener(CallListener listener) {
+    callListeners.remove(listener);
+  }
+
+  /**
+   * Fire call event to the call listeners. The event will be delivered in background, events of the same
+   * call are delivered in the order of firing.
+   *
+   * @param event the event
+   */
+  protected void fireCallEvent(CallEvent event) {
+    eventsDispatcher.dispatch(event.getCallId(), () -> {
+      for (CallListener listener : callListeners) {
+        listener.onCallEvent(event);
       }
-    }
+    });
   }
 
   /**
-   * Fire user call joined a new part.
+   * Fire call event to the user listeners. The event will be delivered in background, events of the same
+   * user are delivered in the order of firing. The same event instance should be fired to all its
+   * recipients, then its JSON will be built once.
    *
-   * @param callId the call id
-   * @param providerType the provider type
-   * @param ownerId the owner id
-   * @param ownerType the owner type
-   * @param partId the part id
    * @param userId the user id
+   * @param event the event
+   */
+  protected void fireUserCallEvent(String userId, CallEvent event) {
+    // Deliver to a snapshot of the user listeners, it's safe while listeners added or removed concurrently
+    UserCallListener[] listeners = userListeners.get(userId);
+    if (listeners.length > 0) {
+      eventsDispatcher.dispatch(userId, () -> {
+        for (UserCallListener listener : listeners) {
+          listener.onCallEvent(event);
+        }
+      });
+    }
+  }
+
+  /**
+   * Notify the call participants that given participant joined or leaved the call. If call listeners
+   * registered, the event will be fired once to them, and only the participant itself will be notified via
+   * its user listeners. Otherwise each participant will be notified via user listeners.<br>
+   * For a group call with participants number not less than its provider
+   * {@link CallProvider#getRosterCoalesceSize()}, the change will be coalesced with other joins and leaves
+   * during the provider {@link CallProvider#getRosterCoalesceWindow()} and notified in a single roster event.
+   *
+   * @param call the call
+   * @param partId the participant id
+   * @param joined <code>true</code> if joined, <code>false</code> if leaved
    */
-  protected void fireUserCallJoined(String callId,
-                                    String providerType,
-                                    String ownerId,
-                                    String ownerType,
-                                    String partId,
-                                    String userId) {
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onPartJoined(callId, providerType, ownerId, ownerType, partId);
+  protected void notifyCallRosterChanged(CallInfo call, String partId, boolean joined) {
+    // The same event instance for all recipients
+    CallEvent event = joined ? CallEvent.partJoined(call.getId(),
+                                                    call.getProviderType(),
+                                                    call.getOwner().getId(),
+                                                    call.getOwner().getType(),
+                                                    partId)
+                             : CallEvent.partLeaved(call.getId(),
+                                                    call.getProviderType(),
+                                                    call.getOwner().getId(),
+                                                    call.getOwner().getType(),
+                                                    partId);
+    boolean toCall = !callListeners.isEmpty();
+    if (toCall) {
+      // Participant's own clients (e.g. other windows or devices) learn about it in user listeners
+      fireUserCallEvent(partId, event);
+    }
+    CallProvider provider = call.getOwner().isGroup() ? getProvider(call.getProviderType()) : null;
+    if (provider != null && provider.getRosterCoalesceSize() > 0
+        && call.getParticipants().size() >= provider.getRosterCoalesceSize()) {
+      final String callId = call.getId();
+      RosterDelta delta;
+      do {
+        delta = rosterDeltas.get(callId);
+        if (delta == null) {
+          RosterDelta created = new RosterDelta();
+          delta = rosterDeltas.putIfAbsent(callId, created);
+          if (delta == null) {
+            delta = created;
+            try {
+              rosterCoalescer.schedule(() -> {
+                try {
+                  flushCallRoster(callId);
+                } catch (Throwable e) {
+                  LOG.warn("Error notifying roster changes of call " + callId, e);
+                }
+              }, provider.getRosterCoalesceWindow(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+              // Service stopping, participants will not be notified
+              rosterDeltas.remove(callId, created);
+              return;
+            }
+          }
+        }
+      } while (!delta.add(call, partId, joined));
+    } else if (toCall) {
+      fireCallEvent(event);
+    } else {
+      for (UserInfo part : call.getParticipants()) {
+        fireUserCallEvent(part.getId(), event);
       }
     }
   }
 
   /**
-   * Fire user call part leaved.
+   * Notify participants of the call about joins and leaves coalesced since the last notification: once via
+   * call listeners if registered, or each participant via user listeners otherwise. Invoked by the roster
+   * coalescer when the coalescing window ends.
    *
    * @param callId the call id
-   * @param providerType the provider type
-   * @param ownerId the owner id
-   * @param ownerType the owner type
-   * @param partId the part id
-   * @param userId the user id
    */
-  protected void fireUserCallLeaved(String callId,
-                                    String providerType,
-                                    String ownerId,
-                                    String ownerType,
-                                    String partId,
-                                    String userId) {
-    Set<UserCallListener> listeners = userListeners.get(userId);
-    if (listeners != null) {
-      for (UserCallListener listener : listeners) {
-        listener.onPartLeaved(callId, providerType, ownerId, ownerType, partId);
+  protected void flushCallRoster(String callId) {
+    RosterDelta delta = rosterDeltas.remove(callId);
+    if (delta != null) {
+      delta.close();
+      CallInfo call = delta.getCall();
+      String[] joined = delta.getParts(true);
+      String[] leaved = delta.getParts(false);
+      CallEvent event = CallEvent.rosterChanged(callId,
+                                                call.getProviderType(),
+                                                call.getOwner().getId(),
+                                                call.getOwner().getType(),
+                                                joined,
+                                                leaved);
+      if (!callListeners.isEmpty()) {
+        fireCallEvent(event);
+      } else {
+        for (UserInfo part : call.getParticipants()) {
+          fireUserCallEvent(part.getId(), event);
+        }
       }
     }
   }
@@ -1818,6 +2762,8 @@ public class WebConferencingService implements Startable {
         LOG.warn("Web Conferencing provider type '" + existing.getType() + "' already registered. Skipped plugin: " + provider);
       }
     }
+    // Saved configuration of the new provider will be read with the next snapshot
+    providerConfigs = null;
   }
 
   /**
@@ -1830,19 +2776,24 @@ public class WebConferencingService implements Startable {
    * @throws Exception the exception
    */
   public boolean checkInvite(String callId, String inviteId, String identity) throws Exception {
-    for (InviteEntity invite : inviteStorage.findCallInvites(callId)) {
-      if (invite.getInvitationId().equals(inviteId)) {
-        if (invite.getIdentity().equals(ALL_USERS)) {
-          return true;
-        }
-        if (USER.equals(invite.getIdentityType()) && invite.getIdentity().equals(identity)) {
-          return true;
-        }
-        if (GROUP.equals(invite.getIdentityType())) {
-          Collection<Membership> membersips = organization.getMembershipHandler()
-                                                          .findMembershipsByUserAndGroup(identity, invite.getIdentity());
-          return !membersips.isEmpty();
-        }
+    // Read only invites matching the invitation and the identity, and group ones to check the membership
+    List<InviteEntity> invites = inviteStorage.findIdentityInvites(callId, inviteId, Arrays.asList(ALL_USERS, identity), GROUP);
+    List<String> groups = new ArrayList<>();
+    for (InviteEntity invite : invites) {
+      if (invite.getIdentity().equals(ALL_USERS)) {
+        return true;
+      }
+      if (USER.equals(invite.getIdentityType()) && invite.getIdentity().equals(identity)) {
+        return true;
+      }
+      if (GROUP.equals(invite.getIdentityType())) {
+        groups.add(invite.getIdentity());
+      }
+    }
+    for (String groupId : groups) {
+      Collection<Membership> membersips = organization.getMembershipHandler().findMembershipsByUserAndGroup(identity, groupId);
+      if (!membersips.isEmpty()) {
+        return true;
       }
     }
     return false;
@@ -1857,18 +2808,8 @@ public class WebConferencingService implements Startable {
   public CallProvider getProvider(String type) {
     CallProvider p = providers.get(type);
     if (p != null) {
-      try {
-        // Apply saved configurations (via Admin UI etc)
-        CallProviderConfiguration conf = readProviderConfig(p.getType());
-        if (conf != null) {
-          p.setActive(conf.isActive());
-        } else {
-          p.setActive(true);
-        }
-      } catch (Exception e) {
-        LOG.warn("Error reading provider configuration " + p.getType(), e);
-        p.setActive(true);
-      }
+      // Apply saved configurations (via Admin UI etc)
+      p.setActive(providerConfigs().isActive(p.getType()));
     }
     return p;
   }
@@ -1888,22 +2829,19 @@ public class WebConferencingService implements Startable {
     }
     // Read configurations saved in storage for each of them
     Set<CallProviderConfiguration> allConfs = new LinkedHashSet<>();
+    ProviderConfigsData configs = providerConfigs();
     for (Iterator<CallProvider> piter = allProviders.iterator(); piter.hasNext();) {
       CallProvider p = piter.next();
       boolean addDefault = false;
-      try {
-        CallProviderConfiguration conf = readProviderConfig(p.getType());
-        if (conf != null) {
-          conf.setTitle(p.getTitle());
-          conf.setDescription(p.getDescription(locale));
-          conf.setLogEnabled(p.isLogEnabled());
-          allConfs.add(conf);
-        } else {
-          addDefault = true;
-        }
-      } catch (Exception e) {
-        LOG.warn("Error reading providers configuration " + p.getType(), e);
-        addDefault = true; // this way we let read and re-save the erroneous config
+      CallProviderConfiguration conf = configs.getConfiguration(p.getType());
+      if (conf != null) {
+        conf.setTitle(p.getTitle());
+        conf.setDescription(p.getDescription(locale));
+        conf.setLogEnabled(p.isLogEnabled());
+        allConfs.add(conf);
+      } else {
+        // Not saved or erroneous config: this way we let read and re-save it
+        addDefault = true;
       }
       if (addDefault) {
         CallProviderConfiguration defaultConf = CallProviderConfiguration.fromProvider(p, locale);
@@ -1933,7 +2871,7 @@ public class WebConferencingService implements Startable {
   public CallProviderConfiguration getProviderConfiguration(String providerType, Locale locale) {
     CallProvider p = getProvider(providerType);
     if (p != null) {
-      CallProviderConfiguration conf = readProviderConfig(p.getType());
+      CallProviderConfiguration conf = providerConfigs().getConfiguration(p.getType());
       if (conf == null) {
         conf = CallProviderConfiguration.fromProvider(p, locale);
       } else {
@@ -1947,7 +2885,7 @@ public class WebConferencingService implements Startable {
   }
 
   /**
-   * Save provider configuration.
+   * Save provider configuration. Provider configurations snapshot will be rebuilt and shared in cluster.
    *
    * @param conf the configuration to save
    * @throws UnsupportedEncodingException if UTF8 not supported
@@ -1962,6 +2900,10 @@ public class WebConferencingService implements Startable {
     } finally {
       Scope.GLOBAL.id(initialGlobalId);
     }
+    ProviderConfigsData configs = readProviderConfigs();
+    providerConfigs = configs;
+    // Other cluster nodes will get the snapshot via the cache listener
+    providersCache.put(PROVIDER_CONFIGS_KEY, configs);
   }
 
   /**
@@ -2077,7 +3019,7 @@ public class WebConferencingService implements Startable {
           saveFile(rootNode, resource, uploadingUser, null);
         }
         try {
-          CallInfo call = getCall(uploadInfo.getCallId());
+          CallInfo call = getCall(uploadInfo.getCallId(), OPERATION_CALL_RECORDED);
           LOG.info(metricMessage(uploadingUser, call, OPERATION_CALL_RECORDED, STATUS_OK, System.currentTimeMillis() - opStart, null));
         } catch (InvalidCallException e) {
           LOG.warn("Failed to build metric for " + OPERATION_CALL_RECORDED, e);
@@ -2387,16 +3329,37 @@ public class WebConferencingService implements Startable {
     this.spaceService = ExoContainerContext.getCurrentContainer().getComponentInstanceOfType(SpaceService.class);
 
     // For a case when calls was active and server stopped, then calls wasn't marked as Stopped and need
-    // remove them.
-    LOG.info("Web Conferencing service started.");
-    try {
-      int cleaned = deleteAllUserCalls();
-      if (cleaned > 0) {
-        LOG.info("Cleaned " + cleaned + " expired user calls.");
+    // remove them. It's done in background by chunks to not block the server startup.
+    final ExoContainer container = ExoContainerContext.getCurrentContainer();
+    eventsDispatcher.start(container);
+    callsJanitor.scheduleWithFixedDelay(() -> {
+      ExoContainer contextContainer = ExoContainerContext.getCurrentContainerIfPresent();
+      try {
+        // Container context for proper work of eXo services
+        ExoContainerContext.setCurrentContainer(container);
+        purgeCalls();
+      } catch (Throwable e) {
+        LOG.warn("Error purging expired calls", e);
+      } finally {
+        ExoContainerContext.setCurrentContainer(contextContainer);
       }
-    } catch (Throwable e) {
-      LOG.warn("Error cleaning calls from previous server execution", e);
+    }, CALLS_PURGE_INITIAL_DELAY, CALLS_PURGE_PERIOD * 3600, TimeUnit.SECONDS);
+    if (hotStates) {
+      statesFlusher.scheduleWithFixedDelay(() -> {
+        ExoContainer contextContainer = ExoContainerContext.getCurrentContainerIfPresent();
+        try {
+          ExoContainerContext.setCurrentContainer(container);
+          flushParticipantStates();
+        } catch (Throwable e) {
+          LOG.warn("Error writing participant states of running calls", e);
+        } finally {
+          ExoContainerContext.setCurrentContainer(contextContainer);
+        }
+      }, statesFlushPeriod, statesFlushPeriod, TimeUnit.MILLISECONDS);
+      LOG.info("Participant states of running calls will be kept in the hot store and written each " + statesFlushPeriod
+          + "ms");
     }
+    LOG.info("Web Conferencing service started.");
   }
 
   /**
@@ -2404,45 +3367,130 @@ public class WebConferencingService implements Startable {
    */
   @Override
   public void stop() {
-    // nothing
+    callsJanitor.shutdownNow();
+    usersLoader.shutdownNow();
+    rosterCoalescer.shutdownNow();
+    eventsDispatcher.stop(EVENTS_DISPATCH_STOP_TIMEOUT);
+    if (hotStates) {
+      statesFlusher.shutdown();
+      try {
+        // Write what was changed on this node since last flush
+        if (statesFlusher.awaitTermination(statesFlushPeriod, TimeUnit.MILLISECONDS)) {
+          flushParticipantStates();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Throwable e) {
+        LOG.warn("Error writing participant states of running calls on stop", e);
+      }
+    }
   }
 
   /**
-   * Checks if is space member.
+   * Checks if the calls janitor is purging the storage now.
    *
-   * @param userName the user name
-   * @param spacePrettyName the space pretty name
-   * @return true, if is space member
+   * @return true, if purge is running
    */
-  protected boolean isSpaceMember(String userName, String spacePrettyName) {
-    return getSpaceMembers(spacePrettyName).contains(userName);
+  public boolean isCallsPurgeRunning() {
+    return callsPurgeRunning.get();
   }
 
   /**
-   * Gets the space members.
+   * Gets the number of expired user calls deleted by the calls janitor since the service start.
    *
-   * @param spacePrettyName the space pretty name
-   * @return the space members
+   * @return the purged calls count
    */
-  protected Set<String> getSpaceMembers(String spacePrettyName) {
-    Space space = spaceService.getSpaceByPrettyName(spacePrettyName);
-    Set<String> spaceMembers = new HashSet<String>();
-    for (String sm : space.getMembers()) {
-      spaceMembers.add(sm);
-    }
-    return spaceMembers;
+  public long getPurgedCalls() {
+    return purgedCalls.get();
   }
 
   /**
-   * Json to provider config.
+   * Gets the number of outdated group calls stopped by the calls janitor since the service start.
    *
-   * @param json the json
-   * @return the call provider configuration
-   * @throws JSONException the JSON exception
+   * @return the purged group calls count
    */
-  protected CallProviderConfiguration jsonToProviderConfig(JSONObject json) throws JSONException {
-    String type = json.getString("type");
-    boolean active = json.getBoolean("active");
+  public long getPurgedGroupCalls() {
+    return purgedGroupCalls.get();
+  }
+
+  /**
+   * Gets the number of orphaned invites deleted by the calls janitor since the service start.
+   *
+   * @return the purged invites count
+   */
+  public long getPurgedInvites() {
+    return purgedInvites.get();
+  }
+
+  /**
+   * Gets the number of stopped group calls moved to the archive by the calls janitor since the service start.
+   *
+   * @return the archived calls count
+   */
+  public long getArchivedCalls() {
+    return archivedCalls.get();
+  }
+
+  /**
+   * Gets the last calls purge start time.
+   *
+   * @return the time in milliseconds, zero if purge not yet started
+   */
+  public long getLastPurgeStart() {
+    return lastPurgeStart;
+  }
+
+  /**
+   * Gets the last calls purge duration.
+   *
+   * @return the duration in milliseconds
+   */
+  public long getLastPurgeDuration() {
+    return lastPurgeDuration;
+  }
+
+  /**
+   * Gets the last calls purge rate.
+   *
+   * @return the rate in rows per second
+   */
+  public double getLastPurgeRate() {
+    return lastPurgeRate;
+  }
+
+  /**
+   * Checks if is space member.
+   *
+   * @param userName the user name
+   * @param spacePrettyName the space pretty name
+   * @return true, if is space member
+   */
+  protected boolean isSpaceMember(String userName, String spacePrettyName) {
+    SpaceData space = spaceData(spacePrettyName);
+    return space != null && space.isMember(userName);
+  }
+
+  /**
+   * Gets the space members.
+   *
+   * @param spacePrettyName the space pretty name
+   * @return the space members
+   */
+  protected Set<String> getSpaceMembers(String spacePrettyName) {
+    SpaceData space = spaceData(spacePrettyName);
+    return new HashSet<String>(space.getMembers());
+  }
+
+  /**
+   * Json to provider config.
+   *
+   * @param json the json
+   * @return the call provider configuration
+   * @throws JSONException the JSON exception
+   */
+  protected CallProviderConfiguration jsonToProviderConfig(JSONObject json) throws JSONException {
+    String type = json.getString("type");
+    boolean active = json.getBoolean("active");
 
     CallProviderConfiguration conf = new CallProviderConfiguration();
     conf.setActive(active);
@@ -2458,26 +3506,51 @@ public class WebConferencingService implements Startable {
    * @return the user I ms
    */
   protected List<IMInfo> getUserIMs(Profile profile) {
-    List<IMInfo> activeIMs = new ArrayList<>();
+    return getUserIMs(readProfileIMs(profile));
+  }
+
+  /**
+   * Read raw IM accounts saved in the user profile.
+   *
+   * @param profile the profile
+   * @return the IM accounts
+   */
+  protected List<IMData> readProfileIMs(Profile profile) {
+    List<IMData> profileIMs = new ArrayList<>();
     @SuppressWarnings("unchecked")
     List<Map<String, String>> ims = (List<Map<String, String>>) profile.getProperty(Profile.CONTACT_IMS);
     if (ims != null) {
       for (Map<String, String> m : ims) {
         String imType = m.get("key");
         String imId = m.get("value");
-        if (imId != null && imId.length() > 0) {
-          CallProvider provider = getProvider(imType);
-          // Here we take in account that provider may change its supported types in runtime
-          if (provider != null && provider.isActive() && provider.isSupportedType(imType)) {
-            try {
-              IMInfo im = provider.getIMInfo(imId);
-              if (im != null) {
-                activeIMs.add(im);
-              } // otherwise provider doesn't have an IM type at all
-            } catch (CallProviderException e) {
-              LOG.warn(e.getMessage());
-            }
-          }
+        if (imType != null && imId != null && imId.length() > 0) {
+          profileIMs.add(new IMData(imType, imId));
+        }
+      }
+    }
+    return profileIMs;
+  }
+
+  /**
+   * Gets the user IM accounts supported by active providers.
+   *
+   * @param ims the raw IM accounts
+   * @return the user I ms
+   */
+  protected List<IMInfo> getUserIMs(List<IMData> ims) {
+    List<IMInfo> activeIMs = new ArrayList<>();
+    for (IMData m : ims) {
+      String imType = m.getType();
+      CallProvider provider = getProvider(imType);
+      // Here we take in account that provider may change its supported types in runtime
+      if (provider != null && provider.isActive() && provider.isSupportedType(imType)) {
+        try {
+          IMInfo im = provider.getIMInfo(m.getId());
+          if (im != null) {
+            activeIMs.add(im);
+          } // otherwise provider doesn't have an IM type at all
+        } catch (CallProviderException e) {
+          LOG.warn(e.getMessage());
         }
       }
     }
@@ -2500,6 +3573,44 @@ public class WebConferencingService implements Startable {
     return json;
   }
 
+  /**
+   * Gets the provider configurations snapshot. If not yet read on this node, it will be taken from the
+   * providers cache or read from the settings storage.
+   *
+   * @return the provider configurations snapshot
+   */
+  protected ProviderConfigsData providerConfigs() {
+    ProviderConfigsData configs = providerConfigs;
+    if (configs == null) {
+      configs = providersCache.get(PROVIDER_CONFIGS_KEY);
+      if (configs == null) {
+        configs = readProviderConfigs();
+      }
+      providerConfigs = configs;
+    }
+    return configs;
+  }
+
+  /**
+   * Read saved configurations of all registered call providers.
+   *
+   * @return the provider configurations snapshot
+   */
+  protected ProviderConfigsData readProviderConfigs() {
+    Set<CallProviderConfiguration> confs = new LinkedHashSet<>();
+    for (CallProvider p : new LinkedHashSet<>(providers.values())) {
+      try {
+        CallProviderConfiguration conf = readProviderConfig(p.getType());
+        if (conf != null) {
+          confs.add(conf);
+        }
+      } catch (Exception e) {
+        LOG.warn("Error reading provider configuration " + p.getType(), e);
+      }
+    }
+    return new ProviderConfigsData(confs);
+  }
+
   /**
    * Read saved call provider configuration.
    *
@@ -2552,17 +3663,17 @@ public class WebConferencingService implements Startable {
    * @param state the state
    */
   protected void notifyUserCallStateChanged(CallInfo call, String initiatorId, String state) {
+    CallEvent event = CallEvent.callState(call.getId(),
+                                          call.getProviderType(),
+                                          state,
+                                          call.getOwner().getId(),
+                                          call.getOwner().getType());
     for (UserInfo part : call.getParticipants()) {
       if (UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType())) {
         // We notify to other part, and in case of deletion including to one who may caused the update
         // for a case if several user clients listening.
         if (initiatorId == null || !initiatorId.equals(part.getId()) || CallState.STOPPED.equals(state)) {
-          fireUserCallStateChanged(part.getId(),
-                                   call.getId(),
-                                   call.getProviderType(),
-                                   state,
-                                   call.getOwner().getId(),
-                                   call.getOwner().getType());
+          fireUserCallEvent(part.getId(), event);
         }
       }
     }
@@ -2570,6 +3681,38 @@ public class WebConferencingService implements Startable {
 
   // ******* Call storage ******
 
+  /**
+   * Read archived calls with their participants, participants of all calls read in a single query.
+   *
+   * @param archived the archived calls
+   * @return the call records
+   */
+  protected List<CallRecord> readCallRecords(List<ArchivedCallEntity> archived) {
+    if (archived.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<String, List<String>> parts = new HashMap<>();
+    for (ArchivedParticipantEntity p : callArchive.findCallsParts(archived.stream()
+                                                                          .map(ArchivedCallEntity::getArchiveId)
+                                                                          .collect(Collectors.toList()))) {
+      parts.computeIfAbsent(p.getArchiveId(), id -> new ArrayList<>()).add(p.getId());
+    }
+    List<CallRecord> records = new ArrayList<>(archived.size());
+    for (ArchivedCallEntity c : archived) {
+      records.add(new CallRecord(c.getCallId(),
+                                 c.getTitle(),
+                                 c.getProviderType(),
+                                 c.getOwnerId(),
+                                 c.getOwnerType(),
+                                 c.getLastDate(),
+                                 c.getStartDate(),
+                                 c.getEndDate(),
+                                 c.getArchivedDate(),
+                                 parts.getOrDefault(c.getArchiveId(), Collections.emptyList())));
+    }
+    return records;
+  }
+
   /**
    * Read call entity.
    *
@@ -2585,114 +3728,243 @@ public class WebConferencingService implements Startable {
                                                                                     IdentityStateException,
                                                                                     CallOwnerException {
     if (savedCall != null) {
-      String callId = savedCall.getId();
-      IdentityInfo owner;
-      String ownerId = savedCall.getOwnerId();
-      List<ParticipantEntity> savedParticipants = null;
-      if (OWNER_TYPE_CHATROOM.equals(savedCall.getOwnerType())) {
-        String settings = savedCall.getSettings(); // we expect JSON here
-        try {
-          JSONObject json = new JSONObject(settings);
-          String roomTitle = json.optString("roomTitle");
-          if (roomTitle != null && roomTitle.length() > 0) {
-            // XXX In case of chat room we read participants storage ahead (see below code on withParticipants=true)
-            // This could be improved by reviewing and separating logic of participants/origins
-            savedParticipants = participantsStorage.findCallParts(callId);
-            // Filter only room members without guests which aren't actual room members here
-            String[] members = savedParticipants.stream()
-                                                  .filter(p -> !GuestInfo.TYPE_NAME.equals(p.getType()))
-                                                  .map(p -> p.getId())
-                                                  .toArray(String[]::new);
-            owner = roomInfo(ownerId, roomTitle, members, callId);
-          } else {
-            LOG.warn("Saved call doesn't have room settings: '" + settings + "'");
-            throw new CallSettingsException("Saved call doesn't have room settings");
-          }
-        } catch (JSONException e) {
-          LOG.warn("Saved call has wrong room settings format (bad JSON syntax): '" + settings + "'", e);
-          throw new CallSettingsException("Saved call has wrong room settings format", e);
-        }
-      } else if (OWNER_TYPE_SPACEEVENT.equals(savedCall.getOwnerType())) {
-        // XXX We work with origins only for space events for the moment, but the origins would be useful for all types of calls.
-        String[] eventParticipants = originsStorage.findCallOrigins(callId, OWNER_TYPE_USER)
-            .stream()
-            .map(p -> p.getId())
-            .toArray(String[]::new);
-        String[] eventSpaces = originsStorage.findCallOrigins(callId, OWNER_TYPE_SPACE)
-            .stream()
-            .map(p -> p.getId())
-            .toArray(String[]::new);
-        owner = spaceEventInfo(ownerId, callId, eventParticipants, eventSpaces);
-      } else if (OWNER_TYPE_SPACE.equals(savedCall.getOwnerType())) {
-        owner = spaceInfo(ownerId, callId);
-      } else if (OWNER_TYPE_USER.equals(savedCall.getOwnerType())) {
-        owner = userInfo(ownerId);
-      } else {
-        throw new CallOwnerException("Unexpected call owner type: " + savedCall.getOwnerType() + " for " + ownerId);
-      }
-      if (owner == null) {
-        throw new CallOwnerException("Call owner cannot be found: " + ownerId);
-      }
+      return readCallData(loadCallData(savedCall, withParticipants), withParticipants);
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * Read the call participants, origins and invite ID from the storage and combine them with the call entity
+   * in a snapshot.
+   *
+   * @param savedCall the saved call
+   * @param withParticipants if <code>true</code> then also read participants
+   * @return the call data
+   */
+  protected CallData loadCallData(CallEntity savedCall, boolean withParticipants) {
+    String callId = savedCall.getId();
+    List<ParticipantData> participants = null;
+    if (withParticipants || OWNER_TYPE_CHATROOM.equals(savedCall.getOwnerType())) {
+      // XXX In case of chat room we read participants storage ahead (see readCallData())
+      participants = participantsStorage.findCallParts(callId)
+                                        .stream()
+                                        .map(p -> new ParticipantData(p.getId(), p.getType(), p.getState(), p.getClientId(), p.getVersion()))
+                                        .collect(Collectors.toList());
+    }
+    List<String> userOrigins;
+    List<String> spaceOrigins;
+    if (OWNER_TYPE_SPACEEVENT.equals(savedCall.getOwnerType())) {
+      // XXX We work with origins only for space events for the moment, but the origins would be useful for all types of calls.
+      userOrigins = originsStorage.findCallOrigins(callId, OWNER_TYPE_USER)
+                                  .stream()
+                                  .map(o -> o.getId())
+                                  .collect(Collectors.toList());
+      spaceOrigins = originsStorage.findCallOrigins(callId, OWNER_TYPE_SPACE)
+                                   .stream()
+                                   .map(o -> o.getId())
+                                   .collect(Collectors.toList());
+    } else {
+      userOrigins = spaceOrigins = Collections.emptyList();
+    }
+    String inviteId;
+    try {
+      inviteId = getInviteId(callId);
+    } catch (StorageException e) {
+      LOG.warn("Cannot get inviteId for call {} : {}", callId, e.getMessage());
+      inviteId = null;
+    }
+    return callData(savedCall, participants, userOrigins, spaceOrigins, inviteId);
+  }
+
+  /**
+   * Combine the call entity with its participants, origins and invites read in a single aggregate from the
+   * storage.
+   *
+   * @param savedCall the saved call aggregate
+   * @return the call data
+   */
+  protected CallData loadCallData(CallAggregate savedCall) {
+    CallEntity call = savedCall.getCall();
+    List<ParticipantData> participants = savedCall.getParticipants()
+                                                  .stream()
+                                                  .map(p -> new ParticipantData(p.getId(), p.getType(), p.getState(), p.getClientId(), p.getVersion()))
+                                                  .collect(Collectors.toList());
+    List<String> userOrigins;
+    List<String> spaceOrigins;
+    if (OWNER_TYPE_SPACEEVENT.equals(call.getOwnerType())) {
+      // XXX We work with origins only for space events for the moment (see loadCallData(CallEntity, boolean))
+      userOrigins = savedCall.getOrigins()
+                             .stream()
+                             .filter(o -> OWNER_TYPE_USER.equals(o.getType()))
+                             .map(o -> o.getId())
+                             .collect(Collectors.toList());
+      spaceOrigins = savedCall.getOrigins()
+                              .stream()
+                              .filter(o -> OWNER_TYPE_SPACE.equals(o.getType()))
+                              .map(o -> o.getId())
+                              .collect(Collectors.toList());
+    } else {
+      userOrigins = spaceOrigins = Collections.emptyList();
+    }
+    // Assume inviationId is the same for all invites in this call.
+    String inviteId = savedCall.getInvites().isEmpty() ? null : savedCall.getInvites().get(0).getInvitationId();
+    return callData(call, participants, userOrigins, spaceOrigins, inviteId);
+  }
+
+  /**
+   * Build the call snapshot.
+   *
+   * @param savedCall the saved call
+   * @param participants the participants, can be <code>null</code> if not read
+   * @param userOrigins the user origins
+   * @param spaceOrigins the space origins
+   * @param inviteId the invite id, can be <code>null</code>
+   * @return the call data
+   */
+  private CallData callData(CallEntity savedCall,
+                            List<ParticipantData> participants,
+                            List<String> userOrigins,
+                            List<String> spaceOrigins,
+                            String inviteId) {
+    String callId = savedCall.getId();
+    return new CallData(callId,
+                        savedCall.getProviderType(),
+                        savedCall.getOwnerType(),
+                        savedCall.getOwnerId(),
+                        savedCall.getState(),
+                        savedCall.getTitle(),
+                        savedCall.getSettings(),
+                        savedCall.getLastDate(),
+                        savedCall.getStartDate(),
+                        savedCall.getEndDate(),
+                        savedCall.isGroup(),
+                        inviteId,
+                        participants,
+                        userOrigins,
+                        spaceOrigins,
+                        savedCall.getVersion());
+  }
 
-      CallInfo call = new CallInfo(callId, savedCall.getTitle(), owner, savedCall.getProviderType());
-      call.setState(savedCall.getState());
-      call.setLastDate(savedCall.getLastDate());
-      call.setStartDate(savedCall.getStartDate());
-      call.setEndDate(savedCall.getEndDate());
+  /**
+   * Build a new call info from the saved call snapshot: resolve its owner and participants.
+   *
+   * @param savedCall the saved call snapshot
+   * @param withParticipants if <code>true</code> then also add participants to the call (they should be
+   *          in the snapshot)
+   * @return the call info
+   * @throws CallSettingsException if call entry has wrong settings (Chat room call title too long or has
+   *           bad value)
+   * @throws IdentityStateException if error reading call owner or participant
+   * @throws CallOwnerException if call owner type of unknown type
+   */
+  protected CallInfo readCallData(CallData savedCall, boolean withParticipants) throws CallSettingsException,
+                                                                                IdentityStateException,
+                                                                                CallOwnerException {
+    String callId = savedCall.getId();
+    IdentityInfo owner;
+    String ownerId = savedCall.getOwnerId();
+    if (OWNER_TYPE_CHATROOM.equals(savedCall.getOwnerType())) {
+      String settings = savedCall.getSettings(); // we expect JSON here
       try {
-        String inviteId = getInviteId(callId);
-        if (inviteId != null) {
-          call.setInviteId(inviteId);
+        JSONObject json = new JSONObject(settings);
+        String roomTitle = json.optString("roomTitle");
+        if (roomTitle != null && roomTitle.length() > 0) {
+          // Filter only room members without guests which aren't actual room members here
+          String[] members = savedCall.getParticipants()
+                                      .stream()
+                                      .filter(p -> !GuestInfo.TYPE_NAME.equals(p.getType()))
+                                      .map(p -> p.getId())
+                                      .toArray(String[]::new);
+          owner = roomInfo(ownerId, roomTitle, members, callId, !withParticipants);
         } else {
-          // This should not happen in normal circumstances as invite will be
-          // created within the call or on call start, 
-          // see also txCreateCall(), txUpdateCallAndParticipants()
-          if (CallState.STARTED.equals(call.getState())) {
-            LOG.warn("Cannot find inviteId for started call {}", callId);
-          } else if (LOG.isDebugEnabled()) {
-            LOG.debug("An inviteId not found for call {}", callId);
-          }
+          LOG.warn("Saved call doesn't have room settings: '" + settings + "'");
+          throw new CallSettingsException("Saved call doesn't have room settings");
         }
-      } catch (StorageException e) {
-        LOG.warn("Cannot get inviteId for call {} : {}", callId, e.getMessage());
-      }
-
-      if (withParticipants) {
-        if (savedParticipants == null) {
-          savedParticipants = participantsStorage.findCallParts(callId);
-        } // otherwise reuse room's participants
-        // 1) read actually added participants for call already or being running with their current states from DB
-        // this way we add the ones who exist also in the origins with their actual state (e.g. JOINED for those who are already in the call).
-        for (ParticipantEntity p : savedParticipants) {
-          if (UserInfo.TYPE_NAME.equals(p.getType()) || GuestInfo.TYPE_NAME.equals(p.getType())) {
-            UserInfo user = userInfo(p.getId());
-            if (user == null) {
-              // external guest or undefined participant
-              user = GuestInfo.TYPE_NAME.equals(p.getType()) ? new GuestInfo(p.getId())
-                                                             : new ParticipantInfo(savedCall.getProviderType(), p.getId());
-            } else if (GuestInfo.TYPE_NAME.equals(user.getType())) {
-              // eXo user as guest
-              user = new GuestInfo(user);
-            }
+      } catch (JSONException e) {
+        LOG.warn("Saved call has wrong room settings format (bad JSON syntax): '" + settings + "'", e);
+        throw new CallSettingsException("Saved call has wrong room settings format", e);
+      }
+    } else if (OWNER_TYPE_SPACEEVENT.equals(savedCall.getOwnerType())) {
+      String[] eventParticipants = savedCall.getUserOrigins().toArray(new String[0]);
+      String[] eventSpaces = savedCall.getSpaceOrigins().toArray(new String[0]);
+      owner = spaceEventInfo(ownerId, callId, eventParticipants, eventSpaces, !withParticipants);
+    } else if (OWNER_TYPE_SPACE.equals(savedCall.getOwnerType())) {
+      owner = spaceInfo(ownerId, callId, !withParticipants);
+    } else if (OWNER_TYPE_USER.equals(savedCall.getOwnerType())) {
+      owner = userInfo(ownerId);
+    } else {
+      throw new CallOwnerException("Unexpected call owner type: " + savedCall.getOwnerType() + " for " + ownerId);
+    }
+    if (owner == null) {
+      throw new CallOwnerException("Call owner cannot be found: " + ownerId);
+    }
+
+    CallInfo call = new CallInfo(callId, savedCall.getTitle(), owner, savedCall.getProviderType());
+    call.setState(savedCall.getState());
+    call.setLastDate(savedCall.getLastDate());
+    call.setStartDate(savedCall.getStartDate());
+    call.setEndDate(savedCall.getEndDate());
+    call.setVersion(savedCall.getVersion());
+    String inviteId = savedCall.getInviteId();
+    if (inviteId != null) {
+      call.setInviteId(inviteId);
+    } else {
+      // This should not happen in normal circumstances as invite will be
+      // created within the call or on call start, 
+      // see also txCreateCall(), txUpdateCallAndParticipants()
+      if (CallState.STARTED.equals(call.getState())) {
+        LOG.warn("Cannot find inviteId for started call {}", callId);
+      } else if (LOG.isDebugEnabled()) {
+        LOG.debug("An inviteId not found for call {}", callId);
+      }
+    }
+
+    if (withParticipants) {
+      // 1) read actually added participants for call already or being running with their current states from DB
+      // this way we add the ones who exist also in the origins with their actual state (e.g. JOINED for those who are already in the call).
+      List<ParticipantData> savedParticipants = savedCall.getParticipants();
+      Map<String, UserInfo> users = userInfos(savedParticipants.stream()
+                                                               .filter(p -> UserInfo.TYPE_NAME.equals(p.getType())
+                                                                   || GuestInfo.TYPE_NAME.equals(p.getType()))
+                                                               .map(p -> p.getId())
+                                                               .collect(Collectors.toList()));
+      for (ParticipantData p : savedParticipants) {
+        if (UserInfo.TYPE_NAME.equals(p.getType()) || GuestInfo.TYPE_NAME.equals(p.getType())) {
+          UserInfo user = users.get(p.getId());
+          if (user == null) {
+            // external guest or undefined participant
+            user = GuestInfo.TYPE_NAME.equals(p.getType()) ? new GuestInfo(p.getId())
+                                                           : new ParticipantInfo(savedCall.getProviderType(), p.getId());
+          } else if (GuestInfo.TYPE_NAME.equals(p.getType())) {
+            // eXo user as guest
+            user = new GuestInfo(user);
+          }
+          ParticipantStateData hotState = hotParticipantState(callId, p.getId(), savedCall.getLastDate());
+          if (hotState != null) {
+            user.setState(hotState.getState());
+            user.setClientId(hotState.getClientId());
+          } else {
             user.setState(p.getState());
             user.setClientId(p.getClientId());
-            call.addParticipant(user);
-          } else {
-            LOG.warn("Non user participant skipped for call " + savedCall.getId() + ": " + p.getId() + " (" + p.getType() + ")");
           }
+          call.addParticipant(user);
+          call.setParticipantVersion(p.getId(), p.getVersion());
+        } else {
+          LOG.warn("Non user participant skipped for call " + savedCall.getId() + ": " + p.getId() + " (" + p.getType() + ")");
         }
-        // 2) resolve allowed participants from call origins (actual for space event calls)
-        if (savedCall.isGroup()) {
-          // Resolve actual participants from the owner members with LEAVED state (members may come from the origins above)
-          Set<UserInfo> members = new HashSet<>(GroupInfo.class.cast(owner).getMembers().values());
-          members.stream().forEach(m -> m.setState(UserState.LEAVED));
-          call.addParticipants(members);
-        } // Otherwise it's 1-1 call and its participants already added in createCall() if start parameter was set to true
       }
-      return call;
-    } else {
-      return null;
+      // 2) resolve allowed participants from call origins (actual for space event calls)
+      if (savedCall.isGroup()) {
+        // Resolve actual participants from the owner members with LEAVED state (members may come from the origins above)
+        GroupInfo group = GroupInfo.class.cast(owner);
+        group.loadMembers();
+        Set<UserInfo> members = new HashSet<>(group.getMembers().values());
+        members.stream().forEach(m -> m.setState(UserState.LEAVED));
+        call.addParticipants(members);
+      } // Otherwise it's 1-1 call and its participants already added in createCall() if start parameter was set to true
     }
+    return call;
   }
 
   /**
@@ -2704,12 +3976,8 @@ public class WebConferencingService implements Startable {
    */
   protected String getInviteId(String callId) throws StorageException {
     try {
-      List<InviteEntity> invites = inviteStorage.findCallInvites(callId);
-      if (!invites.isEmpty()) {
-        // Assume inviationId is the same for all invites in this call.
-        return invites.get(0).getInvitationId();
-      }
-      return null;
+      // Assume inviationId is the same for all invites in this call.
+      return inviteStorage.findCallInvitationId(callId);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error getting invite Id for call " + callId, e);
     }
@@ -2911,6 +4179,117 @@ public class WebConferencingService implements Startable {
     }
   }
 
+  /**
+   * Create the call with all its participants in a single transaction with removal of outdated calls it
+   * replaces. A row of already existing call with the same ID will be locked until the transaction end,
+   * thus concurrent creators of the same call will be serialized by the database. If such call exists and
+   * it's a group call, or it's a P2P call already started and running, {@link CallConflictException} will
+   * be raised before any change. Otherwise the existing call is treated as outdated (could be left not
+   * properly stopped on an error like server crash or network lose) and will be deleted. If
+   * <code>replaceGroupCall</code> is <code>true</code> then another call of the owner group will be deleted
+   * also.
+   *
+   * @param call the call
+   * @param replaceGroupCall if <code>true</code> then another call of the call owner group will be removed
+   * @return the IDs of deleted calls mapped to IDs of their participants, the created call ID will be there
+   *         if it was replaced
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException if persistence exception happen
+   * @throws CallSettingsException if call entry has wrong settings (chat room title)
+   * @throws CallConflictException if such call already exists and cannot be replaced
+   * @see ExoTransactional
+   */
+  @ExoTransactional
+  protected Map<String, List<String>> txCreateOrReplaceCall(CallInfo call, boolean replaceGroupCall) throws IllegalArgumentException,
+                                                                                                     IllegalStateException,
+                                                                                                     PersistenceException,
+                                                                                                     CallSettingsException,
+                                                                                                     CallConflictException {
+    String callId = call.getId();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(">> txCreateOrReplaceCall: " + callId);
+    }
+    // 1) Check if we can create the call, nothing changed in the storage here
+    CallEntity existing = callStorage.findForUpdate(callId);
+    boolean existingStarted = false;
+    if (existing != null) {
+      if (call.getOwner().isGroup()) {
+        // Group call: already exists, we return an error - it needs read/start existing call
+        throw new CallConflictException("Call already created");
+      }
+      // P2P call: need check if it is STARTED and does someone already joined and actually connected
+      existingStarted = CallState.STARTED.equals(existing.getState());
+      if (existingStarted && isCallRunning(callId)) {
+        throw new CallConflictException("Call already started");
+      }
+    }
+    // 2) Delete outdated calls
+    Map<String, List<String>> deleted = new LinkedHashMap<>();
+    if (replaceGroupCall) {
+      CallState prevCall = callStorage.findGroupCallStateByOwnerId(call.getOwner().getId());
+      if (prevCall != null && !prevCall.getId().equals(callId)) {
+        // XXX For a case when some client failed to delete an existing (but outdated etc.) call but
+        // already starting a new one.
+        // It's SfB usecase when browser client failed to delete outdated call (browser/plugin
+        // crashed in IE11) and then starts a new one.
+        deleted.put(prevCall.getId(), txDeleteCall(prevCall.getId()));
+        LOG.warn("Deleted outdated group call: " + prevCall.getId());
+      }
+    }
+    if (existing != null) {
+      deleted.put(callId, txDeleteCall(callId));
+      LOG.warn("Deleted " + (existingStarted ? "not active" : "outdated") + " call: " + callId);
+    }
+    if (deleted.size() > 0) {
+      // Deleted rows should leave the DB (and the storage session) before inserting a new call, it may have
+      // the same ID and participants
+      callStorage.flush();
+      callStorage.clear();
+    }
+    // 3) Create the call
+    txCreateCall(call);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("<< txCreateOrReplaceCall: " + callId);
+    }
+    return deleted;
+  }
+
+  /**
+   * Checks if some saved participant of the call is connected to it (has an user listener with the same
+   * client ID).
+   *
+   * @param callId the call id
+   * @return true, if call is running
+   */
+  protected boolean isCallRunning(String callId) {
+    return isCallRunning(callId, participantsStorage.findCallParts(callId));
+  }
+
+  /**
+   * Checks if some of given saved participants of the call is connected to it (has an user listener with
+   * the same client ID).
+   *
+   * @param callId the call id
+   * @param parts the saved participants of the call
+   * @return true, if call is running
+   */
+  protected boolean isCallRunning(String callId, Collection<ParticipantEntity> parts) {
+    for (ParticipantEntity savedPart : parts) {
+      ParticipantStateData hotState = hotParticipantState(callId, savedPart.getId(), null);
+      String clientId = hotState != null ? hotState.getClientId() : savedPart.getClientId();
+      if (clientId != null) {
+        for (UserCallListener ul : userListeners.get(savedPart.getId())) {
+          if (clientId.equals(ul.getClientId())) {
+            // this part already joined and runs in the call
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
   /**
    * Tx add participant.
    *
@@ -2953,6 +4332,7 @@ public class WebConferencingService implements Startable {
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    * @throws CallSettingsException if call entry has wrong settings (room call title)
+   * @throws OptimisticLockException if saved call has another version than the call object
    */
   private void saveCall(CallInfo call) throws CallNotFoundException,
                                        IllegalArgumentException,
@@ -2961,12 +4341,31 @@ public class WebConferencingService implements Startable {
                                        CallSettingsException {
     CallEntity entity = callStorage.find(call.getId());
     if (entity != null) {
+      checkVersion(call, entity);
       syncCallEntity(call, entity);
       callStorage.update(entity);
+      // Flush to get the incremented version: the call object may be saved again after this
+      callStorage.flush();
+      call.setVersion(entity.getVersion());
     } else {
       throw new CallNotFoundException("Call not found: " + call.getId());
     }
   }
+
+  /**
+   * Check the saved call has the same version as the call object (it was read from). Otherwise the call was
+   * updated concurrently and the call object should be read again.
+   *
+   * @param call the call
+   * @param entity the saved call
+   * @throws OptimisticLockException if versions differ
+   */
+  private void checkVersion(CallInfo call, CallEntity entity) throws OptimisticLockException {
+    if (entity.getVersion() != call.getVersion()) {
+      throw new OptimisticLockException("Call " + call.getId() + " was updated concurrently, its version " + entity.getVersion()
+          + " but expected " + call.getVersion());
+    }
+  }
   
   /**
    * Tx stop call.
@@ -2985,6 +4384,11 @@ public class WebConferencingService implements Startable {
     // Delete or update in single tx
     call.setState(CallState.STOPPED);
     if (remove) {
+      // Don't delete the call if it was updated concurrently
+      CallEntity entity = callStorage.find(call.getId());
+      if (entity != null) {
+        checkVersion(call, entity);
+      }
       // Delete the call with all its parties/origins/invitations
       txDeleteCall(call.getId());
       // Call removal cancels all invitation - reflect this 
@@ -3034,35 +4438,66 @@ public class WebConferencingService implements Startable {
   }
 
   /**
-   * Tx update invites.
+   * Tx update invites. Only the difference with saved invites will be applied: invites of identities not
+   * in given list will be deleted in bulk, new ones created in a single flush and the type updated where it
+   * changed.
    *
    * @param callId the id
    * @param identities the identities
+   * @return the change set of invited identities
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    */
   @ExoTransactional
-  protected void txUpdateInvites(String callId, List<InvitedIdentity> identities) throws IllegalArgumentException,
-                                                                                  IllegalStateException,
-                                                                                  PersistenceException {
+  protected ChangeSet txUpdateInvites(String callId, List<InvitedIdentity> identities) throws IllegalArgumentException,
+                                                                                       IllegalStateException,
+                                                                                       PersistenceException {
     // INFO This method doesn't used as for Jan of 2021.
     if (LOG.isDebugEnabled()) {
       LOG.debug(">> txUpdateInvites: " + callId);
     }
-    identities = identities.stream().distinct().collect(Collectors.toList());
+    // Identity is a part of the invite key, thus keep a last given type for each identity
+    Map<String, String> types = new LinkedHashMap<>();
+    for (InvitedIdentity identity : identities) {
+      types.put(identity.getIdentity(), identity.getType());
+    }
     List<InviteEntity> invites = inviteStorage.findCallInvites(callId);
     String inviteId = !invites.isEmpty() ? invites.get(0).getInvitationId() : RandomStringUtils.randomAlphabetic(12);
+    Set<String> removed = new LinkedHashSet<>();
+    Set<String> saved = new HashSet<>();
     for (InviteEntity invite : invites) {
-      inviteStorage.delete(invite);
+      String type = types.get(invite.getIdentity());
+      if (type == null) {
+        removed.add(invite.getIdentity());
+      } else {
+        saved.add(invite.getIdentity());
+        if (!type.equals(invite.getIdentityType())) {
+          invite.setIdentityType(type);
+          inviteStorage.update(invite);
+        }
+      }
     }
-    for (InvitedIdentity identity : identities) {
-      // TODO: add check GROUP/USER in org service
-      createInvite(callId, identity.getIdentity(), identity.getType(), inviteId);
+    if (removed.size() > 0) {
+      inviteStorage.deleteCallInvites(callId, removed);
+    }
+    Set<String> added = new LinkedHashSet<>();
+    List<InviteEntity> createInvites = new ArrayList<>();
+    for (Map.Entry<String, String> ie : types.entrySet()) {
+      if (!saved.contains(ie.getKey())) {
+        // TODO: add check GROUP/USER in org service
+        createInvites.add(new InviteEntity(callId, ie.getKey(), ie.getValue(), inviteId));
+        added.add(ie.getKey());
+      }
+    }
+    if (createInvites.size() > 0) {
+      inviteStorage.createAll(createInvites);
     }
+    ChangeSet changes = new ChangeSet(added, removed);
     if (LOG.isDebugEnabled()) {
-      LOG.debug("<< txUpdateInvites: " + callId);
+      LOG.debug("<< txUpdateInvites: " + callId + ", " + changes);
     }
+    return changes;
   }
 
   /**
@@ -3071,21 +4506,29 @@ public class WebConferencingService implements Startable {
    *
    * @param callId the call id
    * @param user the participant user
+   * @param version the participant version read with the call, if <code>null</code> then the participant
+   *          will be saved regardless of concurrent updates made after the call read
+   * @return the saved participant entity
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    * @throws ParticipantNotFoundException if participant not found in storage
+   * @throws OptimisticLockException if saved participant has another version than given one
    */
-  private void saveParticipant(String callId, UserInfo user) throws IllegalArgumentException,
-                                                                    IllegalStateException,
-                                                                    PersistenceException,
-                                                                    ParticipantNotFoundException {
+  private ParticipantEntity saveParticipant(String callId, UserInfo user, Long version) throws IllegalArgumentException,
+                                                                                               IllegalStateException,
+                                                                                               PersistenceException,
+                                                                                               ParticipantNotFoundException {
     // Update participant
     ParticipantEntity part = participantsStorage.find(new ParticipantId(user.getId(), callId));
     if (part != null) {
+      if (version != null && part.getVersion() != version.longValue()) {
+        throw new OptimisticLockException("Call participant " + user.getId() + "@" + callId + " was updated concurrently, its version "
+            + part.getVersion() + " but expected " + version);
+      }
       part.setState(user.getState());
       part.setClientId(user.getClientId());
-      participantsStorage.update(part);
+      return participantsStorage.update(part);
     } else {
       throw new ParticipantNotFoundException("Call participant " + user.getId() + " not found for " + callId);
     }
@@ -3096,25 +4539,71 @@ public class WebConferencingService implements Startable {
    *
    * @param callId the call id
    * @param participant the participant
+   * @return the saved participant entity, its version will be actual after the commit
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    * @throws ParticipantNotFoundException if call participant not found in storage
    */
   @ExoTransactional
-  protected void txUpdateParticipant(String callId, UserInfo participant) throws IllegalArgumentException,
-                                                                          IllegalStateException,
-                                                                          PersistenceException,
-                                                                          ParticipantNotFoundException {
+  protected ParticipantEntity txUpdateParticipant(String callId, UserInfo participant) throws IllegalArgumentException,
+                                                                                       IllegalStateException,
+                                                                                       PersistenceException,
+                                                                                       ParticipantNotFoundException {
     if (LOG.isDebugEnabled()) {
       LOG.debug(">> txUpdateParticipant: " + participant.getId() + "@" + callId);
     }
-    saveParticipant(callId, participant);
+    // Participant own state is saved over concurrent updates, concurrent transactions still fail on flush
+    ParticipantEntity saved = saveParticipant(callId, participant, null);
     if (LOG.isDebugEnabled()) {
       LOG.debug("<< txUpdateParticipant: " + participant.getId() + "@" + callId);
     }
+    return saved;
   }
   
+  /**
+   * Save participant states from the hot store in a single transaction. States of not started calls and
+   * states older of their call last date (i.e. of a previous session of the call) will be skipped. A call
+   * stopped on another node discards only its own hot states, thus the rest should not be written over
+   * the stopped call.
+   *
+   * @param states the states
+   * @return number of saved states
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  @ExoTransactional
+  protected int txSaveParticipantStates(Collection<ParticipantStateData> states) throws IllegalArgumentException,
+                                                                                 IllegalStateException,
+                                                                                 PersistenceException {
+    Map<String, List<ParticipantStateData>> callStates = new LinkedHashMap<>();
+    for (ParticipantStateData state : states) {
+      callStates.computeIfAbsent(state.getCallId(), id -> new ArrayList<>()).add(state);
+    }
+    int saved = 0;
+    for (Map.Entry<String, List<ParticipantStateData>> ce : callStates.entrySet()) {
+      CallEntity call = callStorage.find(ce.getKey());
+      if (call != null && CallState.STARTED.equals(call.getState())) {
+        long since = call.getLastDate() != null ? call.getLastDate().getTime() : 0;
+        Map<String, ParticipantEntity> parts = new HashMap<>();
+        for (ParticipantEntity part : participantsStorage.findCallParts(call.getId())) {
+          parts.put(part.getId(), part);
+        }
+        for (ParticipantStateData state : ce.getValue()) {
+          ParticipantEntity part = parts.get(state.getId());
+          if (part != null && state.getTime() >= since) {
+            part.setState(state.getState());
+            part.setClientId(state.getClientId());
+            participantsStorage.update(part);
+            saved++;
+          }
+        }
+      }
+    }
+    return saved;
+  }
+
   /**
    * Sync group members and participants.
    *
@@ -3134,30 +4623,39 @@ public class WebConferencingService implements Startable {
       Set<UserInfo> members = new LinkedHashSet<>(GroupInfo.class.cast(call.getOwner()).getMembers().values());
       Set<UserInfo> participants = call.getParticipants();
       // 1) Ensure participants contain only members (excluding existing external guests)
+      // Read IDs of saved participants once and then do the diff in memory
+      Set<String> savedIds = new HashSet<>(participantsStorage.findCallPartIds(call.getId()));
       Set<UserInfo> deleteParties = new LinkedHashSet<>(participants); // we need a copy of the set as it will be modified below
       // Filter current parties (remove users already in group members), to remove not members next
       deleteParties.removeAll(members);
+      Set<String> deleteIds = new LinkedHashSet<>();
       for (UserInfo p : deleteParties) {
         if (!GuestInfo.TYPE_NAME.equals(p.getType())) {
           // Remove this part as it's not a member of the group
-          ParticipantEntity entity = participantsStorage.find(new ParticipantId(p.getId(), call.getId()));
-          if (entity != null) {
-            participantsStorage.delete(entity);
-          }          
+          if (savedIds.contains(p.getId())) {
+            deleteIds.add(p.getId());
+          }
           call.removeParticipant(p);
         } // Otherwise, it's a guest - should be removed explicitly
       }
+      if (deleteIds.size() > 0) {
+        participantsStorage.deleteCallParts(call.getId(), deleteIds);
+      }
       // 2) Ensure all members are participants as well
       // Filter current members (remove ones not already in parties), to add members not yet participating the call
       members.removeAll(participants);
+      List<ParticipantEntity> createParts = new ArrayList<>();
       for (UserInfo m : members) {
         // save only not already existing
-        ParticipantEntity entity = participantsStorage.find(new ParticipantId(m.getId(), call.getId()));
-        if (entity == null) {
-          participantsStorage.create(createParticipantEntity(call.getId(), m));
+        if (!savedIds.contains(m.getId())) {
+          createParts.add(createParticipantEntity(call.getId(), m));
         }
         call.addParticipant(m); // add also to the actual parties
       }
+      if (createParts.size() > 0) {
+        // Persisted in a single flush, JDBC batching applies if enabled for the datasource
+        participantsStorage.createAll(createParts);
+      }
       if (LOG.isDebugEnabled()) {
         LOG.debug("<< txSyncMembersAndParticipants: " + call.getId());
       }
@@ -3243,10 +4741,10 @@ public class WebConferencingService implements Startable {
     String callId = call.getId();
     for (UserInfo p : call.getParticipants()) {
       try {
-        saveParticipant(callId, p);
+        saveParticipant(callId, p, call.getParticipantVersion(p.getId()));
       } catch(ParticipantNotFoundException e) {
         // Check if this participant not from group's origins
-        if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).getMembers().keySet().contains(p.getId())) {
+        if (call.getOwner().isGroup() && GroupInfo.class.cast(call.getOwner()).hasMember(p.getId())) {
           addParticipant(callId, p);
         } else {
           throw new ParticipantNotFoundException("Cannot update the call with not allowed participant: " + p.getId() 
@@ -3315,83 +4813,201 @@ public class WebConferencingService implements Startable {
    * Delete call within a transaction.
    *
    * @param id the call id
+   * @return the IDs of deleted call participants, empty if no call found
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    */
   @ExoTransactional
-  protected void txDeleteCall(String id) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+  protected List<String> txDeleteCall(String id) throws IllegalArgumentException, IllegalStateException, PersistenceException {
     CallEntity entity = callStorage.find(id);
     if (entity != null) {
       if (LOG.isDebugEnabled()) {
         LOG.debug(">> txDeleteCall: " + id);
       }
+      // Participants (incl. guests) and origins deleted explicitly, not by the DB's FK cascade, to let
+      // the second-level cache know about it. Their IDs needed to invalidate user calls after the commit.
+      List<String> partIds = participantsStorage.findCallPartIds(id);
+      participantsStorage.deleteCallParts(id);
+      originsStorage.deleteCallOrigins(id);
       callStorage.delete(entity);
       // Cancel all invitations on the call removal
-      // NOTE: already existing guests will be removed by the DB's FK cascade 
       removeInvites(id);
       if (LOG.isDebugEnabled()) {
         LOG.debug("<< txDeleteCall: " + id);
       }
+      return partIds;
     }
+    return Collections.emptyList();
   }
 
   /**
-   * Tx update participants.
+   * Tx update participants. Only the difference with saved participants will be applied: participants not
+   * in given list will be deleted in bulk and new ones created in a single flush.
    *
    * @param call the call
    * @param participants the participants
+   * @return the change set of participant IDs
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    */
   @ExoTransactional
-  protected void txUpdateParticipants(CallInfo call, List<UserInfo> participants) throws IllegalArgumentException,
-                                                                                  IllegalStateException,
-                                                                                  PersistenceException {
+  protected ChangeSet txUpdateParticipants(CallInfo call, List<UserInfo> participants) throws IllegalArgumentException,
+                                                                                       IllegalStateException,
+                                                                                       PersistenceException {
     if (LOG.isDebugEnabled()) {
       LOG.debug(">> txUpdateParticipants: " + call.getId());
     }
+    ChangeSet changes;
     if (participants != null && !participants.isEmpty()) {
       // Instead of deleting and adding the all, we figure out whom actually 
       // to add/remove to deal better with DB transactions from other requests (e.g. from client via CometD/REST).
       Set<String> partIds = participants.stream().map(UserInfo::getId).collect(Collectors.toSet());
-      List<ParticipantEntity> savedParts = participantsStorage.findCallParts(call.getId());
-      Set<String> savedPartIds = savedParts.stream().map(ParticipantEntity::getId).collect(Collectors.toSet());
-      for (ParticipantEntity p : savedParts) {
-        if (!partIds.contains(p.getId())) {
-          participantsStorage.delete(p);
-          savedPartIds.remove(p.getId());
+      // Read IDs of saved participants once and then do the diff in memory
+      Set<String> savedPartIds = new HashSet<>(participantsStorage.findCallPartIds(call.getId()));
+      Set<String> removed = new LinkedHashSet<>();
+      for (String id : savedPartIds) {
+        if (!partIds.contains(id)) {
+          removed.add(id);
         }
       }
+      if (removed.size() > 0) {
+        participantsStorage.deleteCallParts(call.getId(), removed);
+      }
+      Set<String> added = new LinkedHashSet<>();
+      List<ParticipantEntity> createParts = new ArrayList<>();
       for (UserInfo p : participants) {
-        if (!savedPartIds.contains(p.getId())) {
-          participantsStorage.create(createParticipantEntity(call.getId(), p));
+        if (!savedPartIds.contains(p.getId()) && added.add(p.getId())) {
+          createParts.add(createParticipantEntity(call.getId(), p));
         }
         call.addParticipant(p); // just add a party as this call instance has not parts fetched from the DB (see caller method)
       }
+      if (createParts.size() > 0) {
+        // Persisted in a single flush, JDBC batching applies if enabled for the datasource
+        participantsStorage.createAll(createParts);
+      }
+      changes = new ChangeSet(added, removed);
+    } else {
+      changes = ChangeSet.EMPTY;
     }
     if (LOG.isDebugEnabled()) {
-      LOG.debug("<< txUpdateParticipants: " + call.getId());
+      LOG.debug("<< txUpdateParticipants: " + call.getId() + ", " + changes);
     }
+    return changes;
   }
 
   /**
-   * Delete all user calls (not group ones) within a single transaction.
+   * Delete calls with given IDs with their participants, origins and invites within a single transaction.
    *
-   * @return number of deleted calls
+   * @param ids the calls IDs
+   * @return array of number of deleted calls and number of deleted invites
    * @throws IllegalArgumentException the illegal argument exception
    * @throws IllegalStateException the illegal state exception
    * @throws PersistenceException the persistence exception
    */
   @ExoTransactional
-  protected int txDeleteAllUserCalls() throws IllegalArgumentException, IllegalStateException, PersistenceException {
-    if (LOG.isDebugEnabled()) {
-      LOG.debug(">> txDeleteAllUserCalls");
-    }
-    int r = callStorage.deleteAllUsersCalls();
-    if (LOG.isDebugEnabled()) {
-      LOG.debug("<< txDeleteAllUserCalls: " + r);
+  protected int[] txDeleteCalls(Collection<String> ids) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    int invites = inviteStorage.deleteCallsInvites(ids);
+    participantsStorage.deleteCallsParts(ids);
+    originsStorage.deleteCallsOrigins(ids);
+    int calls = callStorage.deleteCalls(ids);
+    return new int[] { calls, invites };
+  }
+
+  /**
+   * Copy calls with given IDs, their participants and origins to the archive and delete them with their
+   * invites within a single transaction. Calls are deleted by entity, thus if some call was updated
+   * concurrently (e.g. started again), the transaction will fail on its version check.
+   *
+   * @param ids the calls IDs
+   * @return array of number of archived calls and number of affected rows
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  @ExoTransactional
+  protected int[] txArchiveCalls(Collection<String> ids) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    List<CallEntity> calls = callStorage.findCalls(ids);
+    if (calls.isEmpty()) {
+      return new int[] { 0, 0 };
+    }
+    Date archivedDate = new Date();
+    Map<String, String> archiveIds = new HashMap<>();
+    List<ArchivedCallEntity> archived = new ArrayList<>(calls.size());
+    for (CallEntity c : calls) {
+      // A call with the same ID may be archived again later, thus archive has own IDs
+      String archiveId = UUID.randomUUID().toString();
+      archiveIds.put(c.getId(), archiveId);
+      archived.add(new ArchivedCallEntity(archiveId, c, archivedDate));
+    }
+    List<ArchivedParticipantEntity> parts = participantsStorage.findCallsParts(archiveIds.keySet())
+                                                               .stream()
+                                                               .map(p -> new ArchivedParticipantEntity(archiveIds.get(p.getCallId()), p))
+                                                               .collect(Collectors.toList());
+    List<ArchivedOriginEntity> origins = originsStorage.findCallsOrigins(archiveIds.keySet())
+                                                       .stream()
+                                                       .map(o -> new ArchivedOriginEntity(archiveIds.get(o.getCallId()), o))
+                                                       .collect(Collectors.toList());
+    callArchive.createAll(archived);
+    callArchive.createParts(parts);
+    callArchive.createOrigins(origins);
+    int invites = inviteStorage.deleteCallsInvites(archiveIds.keySet());
+    participantsStorage.deleteCallsParts(archiveIds.keySet());
+    originsStorage.deleteCallsOrigins(archiveIds.keySet());
+    for (CallEntity c : calls) {
+      callStorage.delete(c);
+    }
+    return new int[] { calls.size(), (calls.size() + parts.size() + origins.size()) * 2 + invites };
+  }
+
+  /**
+   * Mark calls with given IDs as stopped and remove their invites and guests within a single transaction.
+   *
+   * @param ids the calls IDs
+   * @return array of number of stopped calls and number of deleted invites and guests
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  @ExoTransactional
+  protected int[] txStopCalls(Collection<String> ids) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    int removed = inviteStorage.deleteCallsInvites(ids);
+    removed += participantsStorage.deleteCallsParts(ids, GuestInfo.TYPE_NAME);
+    int calls = callStorage.updateCallsState(ids, CallState.STOPPED);
+    return new int[] { calls, removed };
+  }
+
+  /**
+   * Delete invites of calls with given IDs within a single transaction.
+   *
+   * @param callIds the calls IDs
+   * @return number of deleted invites
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  @ExoTransactional
+  protected int txDeleteInvites(Collection<String> callIds) throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    return inviteStorage.deleteCallsInvites(callIds);
+  }
+
+  /**
+   * Delete all user calls (not group ones) within a single transaction.
+   *
+   * @return number of deleted calls
+   * @throws IllegalArgumentException the illegal argument exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws PersistenceException the persistence exception
+   */
+  @ExoTransactional
+  protected int txDeleteAllUserCalls() throws IllegalArgumentException, IllegalStateException, PersistenceException {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(">> txDeleteAllUserCalls");
+    }
+    int r = callStorage.deleteAllUsersCalls();
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("<< txDeleteAllUserCalls: " + r);
     }
     return r;
   }
@@ -3426,10 +5042,13 @@ public class WebConferencingService implements Startable {
    * @throws StorageException if storage error happens
    */
   protected void deleteCall(String id) throws StorageException {
+    List<String> partIds = Collections.emptyList();
     try {
-      txDeleteCall(id);
+      partIds = txDeleteCall(id);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error deleting call " + id, e);
+    } finally {
+      invalidateCallUsers(id, partIds);
     }
   }
 
@@ -3446,6 +5065,253 @@ public class WebConferencingService implements Startable {
       return txDeleteAllUserCalls();
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error deleting all user calls", e);
+    } finally {
+      // Deleted calls IDs aren't known here, it's rare operation and we can clean the whole cache
+      callsStamps.clear();
+      userCallsStamps.clear();
+    }
+  }
+
+  /**
+   * Purge the calls storage: delete expired user calls, stop outdated group calls still marked as started,
+   * delete invites of not existing calls and move group calls stopped long ago to the archive. Work done by
+   * chunks of {@value #CALLS_PURGE_CHUNK_SIZE} calls ({@value #CALLS_ARCHIVE_CHUNK_SIZE} for archiving), each
+   * in its own transaction, with a pause between them. Invoked by the calls janitor.
+   *
+   * @throws StorageException if storage error happens
+   */
+  protected void purgeCalls() throws StorageException {
+    if (!callsPurgeRunning.compareAndSet(false, true)) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    lastPurgeStart = start;
+    long rows = 0;
+    long calls = 0;
+    long groupCalls = 0;
+    long invites = 0;
+    long archived = 0;
+    try {
+      int[] chunk;
+      do {
+        chunk = purgeCallsChunk(CALLS_PURGE_CHUNK_SIZE);
+        calls += chunk[0];
+        rows += chunk[0] + chunk[1];
+        purgedCalls.addAndGet(chunk[0]);
+      } while (chunk[0] >= CALLS_PURGE_CHUNK_SIZE && pauseCallsPurge());
+      do {
+        chunk = stopGroupCallsChunk(CALLS_PURGE_CHUNK_SIZE);
+        groupCalls += chunk[0];
+        rows += chunk[0] + chunk[1];
+        purgedGroupCalls.addAndGet(chunk[0]);
+      } while (chunk[0] >= CALLS_PURGE_CHUNK_SIZE && pauseCallsPurge());
+      do {
+        chunk = purgeInvitesChunk(CALLS_PURGE_CHUNK_SIZE);
+        invites += chunk[1];
+        rows += chunk[1];
+        purgedInvites.addAndGet(chunk[1]);
+      } while (chunk[0] >= CALLS_PURGE_CHUNK_SIZE && pauseCallsPurge());
+      if (archiveDays > 0) {
+        do {
+          chunk = archiveCallsChunk(CALLS_ARCHIVE_CHUNK_SIZE);
+          archived += chunk[0];
+          rows += chunk[1];
+          archivedCalls.addAndGet(chunk[0]);
+        } while (chunk[0] >= CALLS_ARCHIVE_CHUNK_SIZE && pauseCallsPurge());
+      }
+    } finally {
+      long duration = System.currentTimeMillis() - start;
+      lastPurgeDuration = duration;
+      lastPurgeRate = duration > 0 ? rows * 1000d / duration : rows;
+      callsPurgeRunning.set(false);
+      if (rows > 0) {
+        StringBuilder params = new StringBuilder("deletedCalls:").append(calls);
+        params.append(", stoppedGroupCalls:").append(groupCalls);
+        params.append(", deletedInvites:").append(invites);
+        params.append(", archivedCalls:").append(archived);
+        params.append(", rowsPerSecond:").append(Math.round(lastPurgeRate));
+        LOG.info(metricMessage(OPERATION_CALLS_PURGE, STATUS_OK, params.toString(), duration, null));
+      }
+    }
+  }
+
+  /**
+   * Pause the calls purge between chunks.
+   *
+   * @return true, if the purge can continue, false if the janitor was interrupted
+   */
+  protected boolean pauseCallsPurge() {
+    try {
+      Thread.sleep(CALLS_PURGE_PAUSE);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Delete a chunk of expired user calls with their invites.
+   *
+   * @param maxCalls the max number of calls to delete
+   * @return array of number of deleted calls and number of deleted invites
+   * @throws StorageException if storage error happens
+   */
+  protected int[] purgeCallsChunk(int maxCalls) throws StorageException {
+    List<String> ids = Collections.emptyList();
+    List<ParticipantEntity> parts = Collections.emptyList();
+    RequestLifeCycle.begin(ExoContainerContext.getCurrentContainer());
+    try {
+      ids = callStorage.findOwnerOlderCallIds(OWNER_TYPE_USER, maxCalls);
+      if (ids.isEmpty()) {
+        return new int[] { 0, 0 };
+      }
+      parts = participantsStorage.findCallsParts(ids);
+      return txDeleteCalls(ids);
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error deleting expired user calls", e);
+    } finally {
+      RequestLifeCycle.end();
+      invalidateCallsData(ids, parts);
+    }
+  }
+
+  /**
+   * Stop a chunk of outdated group calls still marked as started, it also removes their invites and guests
+   * and notifies the participants as it's done when stopping a call.
+   *
+   * @param maxCalls the max number of calls to stop
+   * @return array of number of stopped calls and number of deleted invites and guests
+   * @throws StorageException if storage error happens
+   */
+  protected int[] stopGroupCallsChunk(int maxCalls) throws StorageException {
+    List<String> ids = Collections.emptyList();
+    List<CallEntity> calls;
+    List<ParticipantEntity> parts = Collections.emptyList();
+    int[] stopped;
+    RequestLifeCycle.begin(ExoContainerContext.getCurrentContainer());
+    try {
+      ids = callStorage.findOlderGroupCallIds(CallState.STARTED, maxCalls);
+      if (ids.isEmpty()) {
+        return new int[] { 0, 0 };
+      }
+      // Participants read before the guests removal: all of them should know the call stopped
+      parts = participantsStorage.findCallsParts(ids);
+      Map<String, List<ParticipantEntity>> callParts = parts.stream()
+                                                            .collect(Collectors.groupingBy(ParticipantEntity::getCallId));
+      // Calls with connected participants still run, they will be stopped when the parts leave
+      ids = ids.stream()
+               .filter(id -> !isCallRunning(id, callParts.getOrDefault(id, Collections.emptyList())))
+               .collect(Collectors.toList());
+      if (ids.isEmpty()) {
+        return new int[] { 0, 0 };
+      }
+      Set<String> stoppedIds = new HashSet<>(ids);
+      parts = parts.stream().filter(p -> stoppedIds.contains(p.getCallId())).collect(Collectors.toList());
+      calls = callStorage.findCalls(ids);
+      stopped = txStopCalls(ids);
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error stopping outdated group calls", e);
+    } finally {
+      RequestLifeCycle.end();
+      invalidateCallsData(ids, parts);
+    }
+    callsStopped(calls, parts);
+    return stopped;
+  }
+
+  /**
+   * Discard hot states of participants of calls stopped in bulk, notify them that the call stopped and
+   * broadcast {@link #EVENT_CALL_STOPPED}. A call stopped by {@link #stopCall(String, boolean)} does the
+   * same for its participants.
+   *
+   * @param calls the stopped calls
+   * @param parts the participants of the calls
+   */
+  protected void callsStopped(List<CallEntity> calls, List<ParticipantEntity> parts) {
+    Map<String, List<ParticipantEntity>> callParts = parts.stream().collect(Collectors.groupingBy(ParticipantEntity::getCallId));
+    for (CallEntity c : calls) {
+      try {
+        CallInfo call = readCallEntity(c, true);
+        if (call != null) {
+          call.setState(CallState.STOPPED);
+          broacastCallEvent(EVENT_CALL_STOPPED, call, null);
+        }
+      } catch (CallInfoException | IdentityStateException e) {
+        LOG.warn("Error reading stopped call for event broadcast: {}", c.getId(), e);
+      }
+      CallEvent event = CallEvent.callState(c.getId(), c.getProviderType(), CallState.STOPPED, c.getOwnerId(), c.getOwnerType());
+      for (ParticipantEntity part : callParts.getOrDefault(c.getId(), Collections.emptyList())) {
+        if (hotStates) {
+          String key = ParticipantStateData.key(c.getId(), part.getId());
+          pendingStates.remove(key);
+          callStatesCache.remove(key);
+        }
+        if (UserInfo.TYPE_NAME.equals(part.getType()) || GuestInfo.TYPE_NAME.equals(part.getType())) {
+          fireUserCallEvent(part.getId(), event);
+        }
+      }
+    }
+  }
+
+  /**
+   * Delete a chunk of invites which calls don't exist.
+   *
+   * @param maxCalls the max number of calls which invites to delete
+   * @return array of number of calls and number of deleted invites
+   * @throws StorageException if storage error happens
+   */
+  protected int[] purgeInvitesChunk(int maxCalls) throws StorageException {
+    RequestLifeCycle.begin(ExoContainerContext.getCurrentContainer());
+    try {
+      List<String> ids = inviteStorage.findOrphanedCallIds(maxCalls);
+      return ids.isEmpty() ? new int[] { 0, 0 } : new int[] { ids.size(), txDeleteInvites(ids) };
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw new StorageException("Error deleting orphaned invites", e);
+    } finally {
+      RequestLifeCycle.end();
+    }
+  }
+
+  /**
+   * Move a chunk of group calls stopped more than {@link #archiveDays} days ago to the archive.
+   *
+   * @param maxCalls the max number of calls to archive
+   * @return array of number of archived calls and number of affected rows
+   * @throws StorageException if storage error happens
+   */
+  protected int[] archiveCallsChunk(int maxCalls) throws StorageException {
+    List<String> ids = Collections.emptyList();
+    List<ParticipantEntity> parts = Collections.emptyList();
+    RequestLifeCycle.begin(ExoContainerContext.getCurrentContainer());
+    try {
+      ids = callStorage.findOlderGroupCallIds(CallState.STOPPED, archiveDays, maxCalls);
+      if (ids.isEmpty()) {
+        return new int[] { 0, 0 };
+      }
+      // Participants read before the archiving: their calls will not contain the archived ones
+      parts = participantsStorage.findCallsParts(ids);
+      return txArchiveCalls(ids);
+    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+      throw storageError("Error archiving stopped group calls", e);
+    } finally {
+      RequestLifeCycle.end();
+      invalidateCallsData(ids, parts);
+    }
+  }
+
+  /**
+   * Invalidate given calls in the calls cache and calls of their participants in the user calls cache.
+   *
+   * @param ids the calls IDs
+   * @param parts the participants of the calls
+   */
+  protected void invalidateCallsData(Collection<String> ids, Collection<ParticipantEntity> parts) {
+    for (String id : ids) {
+      callsStamps.remove(id);
+    }
+    for (ParticipantEntity part : parts) {
+      userCallsStamps.remove(part.getId());
     }
   }
 
@@ -3465,7 +5331,9 @@ public class WebConferencingService implements Startable {
     try {
       txUpdateCallAndParticipants(call);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error updating call and participants: " + call.getId(), e);
+      throw storageError("Error updating call and participants: " + call.getId(), e);
+    } finally {
+      invalidateCallData(call.getId(), call.getParticipants());
     }
   }
   
@@ -3485,26 +5353,39 @@ public class WebConferencingService implements Startable {
     try {
       txUpdateCallAndOrigins(call);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error updating call and origins: " + call.getId(), e);
+      throw storageError("Error updating call and origins: " + call.getId(), e);
+    } finally {
+      // Origins don't change call state or participants, thus user calls stay actual
+      callsStamps.remove(call.getId());
     }
   }
 
   /**
-   * Sync group members and participants.
+   * Sync group members and participants. Duration of the sync transaction will be reported to the stats
+   * logger with the call participants count.
    *
    * @param call the call
+   * @param userId the user id initiated the sync
    * @throws StorageException the storage exception
    */
-  protected void syncMembersAndParticipants(CallInfo call) throws StorageException {
+  protected void syncMembersAndParticipants(CallInfo call, String userId) throws StorageException {
     try {
+      final long opStart = System.currentTimeMillis();
       txSyncMembersAndParticipants(call);
+      if (call.getOwner().isGroup()) {
+        LOG.info(metricMessage(userId, call, OPERATION_CALL_PARTICIPANTS_SYNC, STATUS_OK, System.currentTimeMillis() - opStart, null));
+      }
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
       throw new StorageException("Error sync call members and participants: " + call.getId(), e);
+    } finally {
+      invalidateCallData(call.getId(), call.getParticipants());
     }
   }
 
   /**
-   * Update call participant (for joined or leaved state) in a single transaction.
+   * Update call participant (for joined or leaved state) in a single transaction. If the participant was
+   * updated concurrently, the transaction will be retried up to {@value #CALL_UPDATE_MAX_ATTEMPTS} times. The
+   * saved state will be written through the cached call.
    *
    * @param callId the call id
    * @param participant the participant
@@ -3512,15 +5393,37 @@ public class WebConferencingService implements Startable {
    * @throws StorageException if storage exception happen
    */
   protected void updateParticipant(String callId, UserInfo participant) throws ParticipantNotFoundException, StorageException {
-    try {
-      txUpdateParticipant(callId, participant);
-    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error updating participant " + participant.getId() + " of call " + callId, e);
+    String operation = UserState.JOINED.equals(participant.getState()) ? OPERATION_CALL_JOINED : OPERATION_CALL_LEAVED;
+    for (int attempt = 1;; attempt++) {
+      ParticipantEntity saved = null;
+      try {
+        saved = txUpdateParticipant(callId, participant);
+        return;
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        StorageException error = storageError("Error updating participant " + participant.getId() + " of call " + callId, e);
+        if (!(error instanceof ConcurrentUpdateException) || !callConflict(participant.getId(), callId, operation, attempt, error)) {
+          throw error;
+        }
+      } finally {
+        // A participant state isn't a part of user calls, thus they stay actual. The cached call gets the
+        // saved state instead of a reload of the whole call on a next read.
+        if (saved != null) {
+          ParticipantData part = new ParticipantData(saved.getId(),
+                                                     saved.getType(),
+                                                     saved.getState(),
+                                                     saved.getClientId(),
+                                                     saved.getVersion());
+          callsStamps.update(callId, data -> data.withParticipant(part));
+        } else {
+          callsStamps.remove(callId);
+        }
+      }
     }
   }
   
   /**
-   * Remove call participant (for leaved state) in a single transaction.
+   * Remove call participant (for leaved state) in a single transaction. If the participant was updated
+   * concurrently, the transaction will be retried up to {@value #CALL_UPDATE_MAX_ATTEMPTS} times.
    *
    * @param callId the call id
    * @param participant the participant
@@ -3528,13 +5431,269 @@ public class WebConferencingService implements Startable {
    * @throws StorageException if storage exception happen
    */
   protected void removeParticipant(String callId, UserInfo participant) throws ParticipantNotFoundException, StorageException {
+    for (int attempt = 1;; attempt++) {
+      try {
+        txRemoveParticipant(callId, participant.getId());
+        return;
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        StorageException error = storageError("Error removing participant " + participant.getId() + " from call " + callId, e);
+        if (!(error instanceof ConcurrentUpdateException)
+            || !callConflict(participant.getId(), callId, OPERATION_CALL_LEAVED, attempt, error)) {
+          throw error;
+        }
+      } finally {
+        // Only the removed participant's calls changed
+        callsStamps.remove(callId);
+        userCallsStamps.remove(participant.getId());
+      }
+    }
+  }
+
+  /**
+   * Update call participant state (joined or leaved). If the hot store enabled, the state will be saved in it
+   * and written to the storage later, otherwise it will be saved in the storage in a single transaction. Only
+   * participants already saved in the storage can be kept in the hot store.
+   *
+   * @param call the call
+   * @param participant the participant
+   * @throws ParticipantNotFoundException if call participant not found in storage
+   * @throws StorageException if storage exception happen
+   */
+  protected void updateParticipantState(CallInfo call, UserInfo participant) throws ParticipantNotFoundException, StorageException {
+    if (hotStates && call.getParticipantVersion(participant.getId()) != null) {
+      ParticipantStateData state = new ParticipantStateData(call.getId(),
+                                                            participant.getId(),
+                                                            participant.getState(),
+                                                            participant.getClientId(),
+                                                            System.currentTimeMillis());
+      callStatesCache.put(state.getKey(), state);
+      pendingStates.put(state.getKey(), state);
+    } else {
+      updateParticipant(call.getId(), participant);
+    }
+  }
+
+  /**
+   * Gets the participant state from the hot store.
+   *
+   * @param callId the call id
+   * @param partId the participant id
+   * @param since the call last date, states older of it will be ignored, can be <code>null</code>
+   * @return the participant state or <code>null</code> if hot store not enabled or has no state for this
+   *         participant
+   */
+  protected ParticipantStateData hotParticipantState(String callId, String partId, Date since) {
+    if (hotStates) {
+      ParticipantStateData state = callStatesCache.get(ParticipantStateData.key(callId, partId));
+      if (state != null && (since == null || state.getTime() >= since.getTime())) {
+        return state;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Remove states of the call participants from the hot store without writing them to the storage.
+   *
+   * @param call the call
+   */
+  protected void discardParticipantStates(CallInfo call) {
+    if (hotStates) {
+      for (UserInfo part : call.getParticipants()) {
+        String key = ParticipantStateData.key(call.getId(), part.getId());
+        pendingStates.remove(key);
+        callStatesCache.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Write states of the call participants from the hot store to the storage.
+   *
+   * @param call the call
+   * @throws StorageException if storage exception happen
+   */
+  protected void flushParticipantStates(CallInfo call) throws StorageException {
+    if (hotStates) {
+      List<ParticipantStateData> states = new ArrayList<>();
+      for (UserInfo part : call.getParticipants()) {
+        ParticipantStateData state = pendingStates.remove(ParticipantStateData.key(call.getId(), part.getId()));
+        if (state != null) {
+          states.add(state);
+        }
+      }
+      if (states.size() > 0) {
+        flushParticipantStates(states);
+      }
+    }
+  }
+
+  /**
+   * Write participant states changed on this node to the storage, by chunks of
+   * {@value #HOT_STORE_FLUSH_CHUNK_SIZE}, each in its own transaction. Several changes of the same
+   * participant are coalesced to the latest one. Invoked periodically by the hot store flusher.<br>
+   * Each {@value #HOT_STORE_RECOVERY_PERIODS} flushes, states found in the hot store but older than that
+   * number of flush periods are written as well: in a cluster the hot store is replicated and such states
+   * were left by a crashed node. On a single node crash the states changed since last flush are lost and
+   * the storage keeps previous participant states, clients will update them when join again.
+   */
+  protected void flushParticipantStates() {
+    List<ParticipantStateData> states = new ArrayList<>();
+    for (Map.Entry<String, ParticipantStateData> pe : pendingStates.entrySet()) {
+      if (pendingStates.remove(pe.getKey(), pe.getValue())) {
+        states.add(pe.getValue());
+      }
+    }
+    if (statesFlushes.incrementAndGet() % HOT_STORE_RECOVERY_PERIODS == 0) {
+      long orphaned = System.currentTimeMillis() - statesFlushPeriod * HOT_STORE_RECOVERY_PERIODS;
+      try {
+        for (ParticipantStateData state : callStatesCache.getCachedObjects()) {
+          if (state.getTime() < orphaned && !pendingStates.containsKey(state.getKey())) {
+            states.add(state);
+          }
+        }
+      } catch (Exception e) {
+        LOG.warn("Error reading hot store of participant states", e);
+      }
+    }
+    for (int from = 0; from < states.size(); from += HOT_STORE_FLUSH_CHUNK_SIZE) {
+      List<ParticipantStateData> chunk = states.subList(from, Math.min(from + HOT_STORE_FLUSH_CHUNK_SIZE, states.size()));
+      try {
+        flushParticipantStates(chunk);
+      } catch (StorageException e) {
+        LOG.warn("Error writing participant states, will try next time: " + e.getMessage());
+        for (ParticipantStateData state : chunk) {
+          // Don't replace a newer state changed meanwhile
+          pendingStates.putIfAbsent(state.getKey(), state);
+        }
+      }
+    }
+  }
+
+  /**
+   * Write given participant states to the storage in a single transaction and remove them from the hot
+   * store, unless they were changed meanwhile.
+   *
+   * @param states the states
+   * @throws StorageException if storage exception happen
+   */
+  protected void flushParticipantStates(List<ParticipantStateData> states) throws StorageException {
+    RequestLifeCycle.begin(ExoContainerContext.getCurrentContainer());
     try {
-      txRemoveParticipant(callId, participant.getId());
+      int saved = txSaveParticipantStates(states);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("Written " + saved + " of " + states.size() + " participant states");
+      }
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error removing participant " + participant.getId() + " from call " + callId, e);
+      throw storageError("Error writing participant states", e);
+    } finally {
+      RequestLifeCycle.end();
+      Set<String> callIds = new HashSet<>();
+      for (ParticipantStateData state : states) {
+        callIds.add(state.getCallId());
+      }
+      // Participant states don't change user calls, thus only calls need invalidation
+      for (String callId : callIds) {
+        callsStamps.remove(callId);
+      }
+    }
+    for (ParticipantStateData state : states) {
+      if (state.equals(callStatesCache.get(state.getKey()))) {
+        callStatesCache.remove(state.getKey());
+      }
     }
   }
 
+  /**
+   * Create a storage exception for given persistence error. If the error caused by a concurrent update (an
+   * optimistic lock failure) then {@link ConcurrentUpdateException} will be returned.
+   *
+   * @param message the message
+   * @param error the persistence error
+   * @return the storage exception
+   */
+  protected StorageException storageError(String message, RuntimeException error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OptimisticLockException) {
+        return new ConcurrentUpdateException(message, error);
+      }
+    }
+    return new StorageException(message, error);
+  }
+
+  /**
+   * Record a conflict of the call operation with a concurrent update and, if attempts of the operation
+   * aren't exhausted, pause before the next attempt. The conflict will be reported to the stats logger.
+   *
+   * @param userId the user id of the operation
+   * @param callId the call id
+   * @param operation the operation
+   * @param attempt the attempt number, starting from 1
+   * @param conflict the conflict error
+   * @return true, if the operation can be attempted again, false otherwise
+   */
+  protected boolean callConflict(String userId, String callId, String operation, int attempt, StorageException conflict) {
+    callConflicts.incrementAndGet();
+    StringBuilder params = new StringBuilder("userId:").append(userId);
+    params.append(", callId:").append(callId);
+    params.append(", attempt:").append(attempt);
+    LOG.info(metricMessage(operation, STATUS_CONFLICT, params.toString(), null, conflict.getMessage()));
+    if (attempt < CALL_UPDATE_MAX_ATTEMPTS) {
+      try {
+        Thread.sleep(1 + ThreadLocalRandom.current().nextLong(CALL_UPDATE_CONFLICT_PAUSE * attempt));
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the number of call operations conflicted with concurrent updates since the service start.
+   *
+   * @return the call conflicts count
+   */
+  public long getCallConflicts() {
+    return callConflicts.get();
+  }
+
+  /**
+   * Gets the number of call events queued for user listeners and not yet delivered.
+   *
+   * @return the events queue depth
+   */
+  public int getEventsQueueDepth() {
+    return eventsDispatcher.getQueueDepth();
+  }
+
+  /**
+   * Gets the max number of call events queued at once since the service start.
+   *
+   * @return the events max queue depth
+   */
+  public int getEventsMaxQueueDepth() {
+    return eventsDispatcher.getMaxQueueDepth();
+  }
+
+  /**
+   * Gets the average time in milliseconds call events waited in the queue before delivery.
+   *
+   * @return the events dispatch lag
+   */
+  public double getEventsDispatchLag() {
+    return eventsDispatcher.getAverageLag();
+  }
+
+  /**
+   * Gets the max time in milliseconds a call event waited in the queue before delivery.
+   *
+   * @return the events max dispatch lag
+   */
+  public long getEventsMaxDispatchLag() {
+    return eventsDispatcher.getMaxLag();
+  }
+
   /**
    * Update existing call (mark it started, stopped etc).
    *
@@ -3549,7 +5708,9 @@ public class WebConferencingService implements Startable {
     try {
       txUpdateCall(call);
     } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error updating call " + call.getId(), e);
+      throw storageError("Error updating call " + call.getId(), e);
+    } finally {
+      invalidateCallData(call.getId());
     }
   }
 
@@ -3569,11 +5730,129 @@ public class WebConferencingService implements Startable {
                                              StorageException,
                                              CallSettingsException,
                                              CallOwnerException {
-    try {
-      CallEntity savedCall = callStorage.find(id);
-      return readCallEntity(savedCall, withParticipants);
-    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      throw new StorageException("Error reading call " + id, e);
+    return findCallById(id, withParticipants, OPERATION_CALL_READ);
+  }
+
+  /**
+   * Find call by its ID in the calls cache or, if not cached, in the storage. A call read from the storage
+   * will be cached with its participants.
+   *
+   * @param id the id
+   * @param withParticipants also read participants
+   * @param operation the operation name (used for the cache stats)
+   * @return the call info
+   * @throws IdentityStateException if error reading call owner or participant
+   * @throws StorageException if persistent error happens
+   * @throws CallSettingsException if call entry has wrong settings (Chat room call
+   *           title too long or has bad value)
+   * @throws CallOwnerException if call owner type of unknown type
+   */
+  protected CallInfo findCallById(String id, boolean withParticipants, String operation) throws IdentityStateException,
+                                                                                         StorageException,
+                                                                                         CallSettingsException,
+                                                                                         CallOwnerException {
+    CacheStats stats = callsCacheStats.computeIfAbsent(operation, o -> new CacheStats());
+    CallData data = callsCache.get(id);
+    if (data != null) {
+      stats.hit();
+    } else {
+      stats.miss();
+      try {
+        // Take the stamp before reading: a change committed meanwhile will not be hidden by stale data
+        long stamp = callsStamps.stamp(id);
+        CallAggregate savedCall = callStorage.findCallAggregate(id);
+        if (savedCall != null) {
+          data = loadCallData(savedCall);
+          callsStamps.put(id, data, stamp);
+        } else {
+          return null;
+        }
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        throw new StorageException("Error reading call " + id, e);
+      }
+    }
+    return readCallData(data, withParticipants);
+  }
+
+  /**
+   * Invalidate the call in the calls cache and calls of its participants in the user calls cache. It should
+   * be done after the call state change in the storage (after the transaction commit). Changes not affecting
+   * the call state or participants should only remove the call from the calls cache.
+   *
+   * @param id the call id
+   */
+  protected void invalidateCallData(String id) {
+    invalidateCallData(id, Collections.emptyList());
+  }
+
+  /**
+   * Invalidate the call in the calls cache and calls of its participants in the user calls cache. Given
+   * participants will be invalidated in addition to ones of the cached call, use this to invalidate newly
+   * added participants. If the call isn't cached, its participants will be read from the storage.
+   *
+   * @param id the call id
+   * @param participants the call participants, can be empty
+   */
+  protected void invalidateCallData(String id, Collection<? extends UserInfo> participants) {
+    invalidateCallUsers(id, participants.stream().map(UserInfo::getId).collect(Collectors.toList()));
+  }
+
+  /**
+   * Invalidate the call in the calls cache and calls of its participants in the user calls cache. Given
+   * users will be invalidated in addition to participants of the cached call, use this for participants
+   * added or deleted by the change. If the call isn't cached, its participants will be read from the
+   * storage.
+   *
+   * @param id the call id
+   * @param userIds the users IDs, can be empty
+   */
+  protected void invalidateCallUsers(String id, Collection<String> userIds) {
+    CallData data = callsStamps.remove(id);
+    if (data != null && data.getParticipants() != null) {
+      for (ParticipantData p : data.getParticipants()) {
+        userCallsStamps.remove(p.getId());
+      }
+    } else {
+      // It's rare case as the call usually read before its state or participants change
+      try {
+        for (String partId : participantsStorage.findCallPartIds(id)) {
+          userCallsStamps.remove(partId);
+        }
+      } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
+        LOG.warn("Error reading participants of call " + id + ", all user calls will be invalidated", e);
+        userCallsStamps.clear();
+      }
+    }
+    for (String userId : userIds) {
+      userCallsStamps.remove(userId);
+    }
+  }
+
+  /**
+   * Invalidate the call in the calls cache and calls of participants added or removed by given changes in
+   * the user calls cache. Calls of other participants don't change on such update.
+   *
+   * @param id the call id
+   * @param changes the participant changes
+   */
+  protected void invalidateCallData(String id, ChangeSet changes) {
+    callsStamps.remove(id);
+    for (String userId : changes.getAdded()) {
+      userCallsStamps.remove(userId);
+    }
+    for (String userId : changes.getRemoved()) {
+      userCallsStamps.remove(userId);
+    }
+  }
+
+  /**
+   * Invalidate calls of given users in the user calls cache.
+   *
+   * @param users the users
+   */
+  protected void invalidateUserCalls(Collection<? extends UserInfo> users) {
+    for (UserInfo u : users) {
+      userCallsStamps.remove(u.getId());
     }
   }
 
@@ -3585,9 +5864,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findGroupCallId(String ownerId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerId(ownerId);
+      CallState savedCall = callStorage.findGroupCallStateByOwnerId(ownerId);
       if (savedCall != null) {
         return savedCall.getId();
       }
@@ -3605,9 +5883,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findSpaceCallId(String spaceId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(spaceId, OWNER_TYPE_SPACE);
+      CallState savedCall = callStorage.findGroupCallStateByOwnerTypeId(spaceId, OWNER_TYPE_SPACE);
       if (savedCall != null) {
         return savedCall.getId();
       }
@@ -3625,9 +5902,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findChatRoomCallId(String roomId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(roomId, OWNER_TYPE_CHATROOM);
+      CallState savedCall = callStorage.findGroupCallStateByOwnerTypeId(roomId, OWNER_TYPE_CHATROOM);
       if (savedCall != null) {
         return savedCall.getId();
       }
@@ -3645,9 +5921,8 @@ public class WebConferencingService implements Startable {
    * @throws StorageException the storage exception
    */
   protected String findLastSpaceEventCallId(String ownerId) throws StorageException {
-    // TODO it's not efficient read the whole entity when we need only an ID (or null)
     try {
-      CallEntity savedCall = callStorage.findGroupCallByOwnerTypeId(ownerId, OWNER_TYPE_SPACEEVENT);
+      CallState savedCall = callStorage.findLastGroupCallStateByOwnerTypeId(ownerId, OWNER_TYPE_SPACEEVENT);
       if (savedCall != null) {
         return savedCall.getId();
       }
@@ -3694,33 +5969,48 @@ public class WebConferencingService implements Startable {
    * @throws CallSettingsException the call settings wrong (chat room title)
    */
   protected void createCall(CallInfo call) throws StorageException, CallConflictException, CallSettingsException {
+    createCall(call, false);
+  }
+
+  /**
+   * Create the call in storage with all its participants, in a single transaction with removal of outdated
+   * calls it replaces. See {@link #txCreateOrReplaceCall(CallInfo, boolean)} for details. If such call (by
+   * ID) already exists and cannot be replaced, a {@link CallConflictException} will be raised.
+   *
+   * @param call the call info
+   * @param replaceGroupCall if <code>true</code> then another call of the call owner group will be removed
+   * @throws StorageException if storage exception happen
+   * @throws CallConflictException the call conflicts with another (same ID) call
+   * @throws CallSettingsException the call settings wrong (chat room title)
+   */
+  protected void createCall(CallInfo call, boolean replaceGroupCall) throws StorageException,
+                                                                     CallConflictException,
+                                                                     CallSettingsException {
+    Map<String, List<String>> replaced = Collections.emptyMap();
     try {
       // Persist the call with all its participants
-      txCreateCall(call);
+      replaced = txCreateOrReplaceCall(call, replaceGroupCall);
     } catch (IllegalArgumentException | IllegalStateException e) {
       throw new StorageException("Error creating call " + call.getId(), e);
     } catch (PersistenceException pe) {
-      // Check if it's not already existing call, inform user accordingly
+      // Check if it's not already existing call (created concurrently), inform user accordingly
       SQLIntegrityConstraintViolationException constEx = exceptionCause(pe, SQLIntegrityConstraintViolationException.class);
       if (constEx != null && constEx.getMessage().indexOf("PK_WBC_CALLID") >= 0) {
-        CallEntity conflictedCallEntity = callStorage.find(call.getId());
-        if (conflictedCallEntity != null) {
+        CallState conflictedCall = callStorage.findCallState(call.getId());
+        if (conflictedCall != null) {
           // We can fail from here or return this already created, in second case we may return not
           // exactly what was originally requested (by data and participants).
-          // Taking in account a check for existence in invalidateCall(), that should be used before this
-          // method, we raise an error to the caller with details.
+          // Taking in account a check for existence in txCreateOrReplaceCall(), the call was created
+          // concurrently, we raise an error to the caller with details.
           if (CallState.STARTED.equals(call.getState())) {
             for (UserInfo savedPart : call.getParticipants()) {
-              Set<UserCallListener> ulisteners = userListeners.get(savedPart.getId());
-              if (ulisteners != null) {
-                for (UserCallListener ul : ulisteners) {
-                  if (savedPart.hasSameClientId(ul.getClientId())) {
-                    // this part already joined and runs in the call
-                    if (LOG.isDebugEnabled()) {
-                      LOG.debug("Call already started and running: " + call.getId(), pe);
-                    }
-                    throw new CallConflictException("Call already started and running");
+              for (UserCallListener ul : userListeners.get(savedPart.getId())) {
+                if (savedPart.hasSameClientId(ul.getClientId())) {
+                  // this part already joined and runs in the call
+                  if (LOG.isDebugEnabled()) {
+                    LOG.debug("Call already started and running: " + call.getId(), pe);
                   }
+                  throw new CallConflictException("Call already started and running");
                 }
               }
             }
@@ -3730,7 +6020,7 @@ public class WebConferencingService implements Startable {
             throw new CallConflictException("Call already started");
           } else {
             if (LOG.isDebugEnabled()) {
-              LOG.debug("Call already created with state " + conflictedCallEntity.getState() + ": " + call.getId(), pe);
+              LOG.debug("Call already created with state " + conflictedCall.getState() + ": " + call.getId(), pe);
             }
             throw new CallConflictException("Call already created");
           }
@@ -3743,64 +6033,17 @@ public class WebConferencingService implements Startable {
         LOG.error("Error creating call: " + call.getId(), pe);
         throw new StorageException("Error creating call", pe);
       }
-    }
-  }
-
-  /**
-   * Invalidate a call by an ID. If such call (by ID) already found and, it's P2P call but not active -
-   * it will be removed, otherwise {@link CallConflictException} will be thrown. This method designed to be
-   * called just before {@link #createCall(CallInfo)}.
-   *
-   * @param id the id
-   * @param isGroup the is group
-   * @throws CallConflictException if call conflict found and existing call cannot be removed
-   * @throws StorageException if storage exception happen
-   */
-  protected void invalidateCall(String id, boolean isGroup) throws CallConflictException, StorageException {
-    try {
-      CallEntity existingCallEntity = callStorage.find(id);
-      if (existingCallEntity != null) {
-        if (isGroup) {
-          // Group call: already exists, we return an error - it needs read/start existing call
-          throw new CallConflictException("Call already created");
-        } else {
-          // P2P call: need check if it is STARTED and does someone already joined and actually
-          // connected,
-          // if have one - it's an error to return, otherwise we treat this call as outdated
-          // (could be left not properly stopped on an error like server crash or network lose)
-          // thus we try to delete it before creating a new one
-          try {
-            CallInfo existingCall = readCallEntity(existingCallEntity, true);
-            if (CallState.STARTED.equals(existingCall.getState())) {
-              for (UserInfo savedPart : existingCall.getParticipants()) {
-                Set<UserCallListener> ulisteners = userListeners.get(savedPart.getId());
-                if (ulisteners != null) {
-                  for (UserCallListener ul : ulisteners) {
-                    if (savedPart.hasSameClientId(ul.getClientId())) {
-                      // this part already joined and runs in the call
-                      throw new CallConflictException("Call already started");
-                    }
-                  }
-                }
-              }
-              deleteCall(id);
-              LOG.warn("Deleted not active call: " + id);
-            } else {
-              deleteCall(id);
-              LOG.warn("Deleted outdated call: " + id);
-            }
-          } catch (CallInfoException | IdentityStateException e) {
-            LOG.warn("Call in erroneous state: " + id, e);
-            deleteCall(id);
-            LOG.warn("Deleted erroneous call: " + id);
-          }
-        }
+    } finally {
+      // Replaced calls deleted in the same transaction
+      for (Map.Entry<String, List<String>> r : replaced.entrySet()) {
+        invalidateCallUsers(r.getKey(), r.getValue());
       }
-    } catch (IllegalArgumentException | IllegalStateException | PersistenceException e) {
-      LOG.warn("Error reading call by ID: " + id, e);
+      // A new call has no previous participants, a replaced one was invalidated above
+      callsStamps.remove(call.getId());
+      invalidateUserCalls(call.getParticipants());
     }
   }
-  
+
   /**
    * Metric message for reporting to the stats logger.
    *
@@ -3820,11 +6063,8 @@ public class WebConferencingService implements Startable {
                                  String status,
                                  Long duration,
                                  String error) {
-    StringBuilder res = new StringBuilder("service=webconferencing");
-    res.append(" operation=").append(operation);
-    res.append(" status=").append(status);
-    res.append(" parameters=");
-    res.append("\"userId:").append(userId);
+    StringBuilder res = new StringBuilder();
+    res.append("userId:").append(userId);
     res.append(", isGroup:").append(call.getOwner().isGroup());
     res.append(", owner:").append(call.getOwner().getId());
     res.append(", ownerType:").append(call.getOwner().getType());
@@ -3837,7 +6077,24 @@ public class WebConferencingService implements Startable {
       long callDurationMin = Math.round(callDurationSec / 60);
       res.append(", callDuration_min:").append(callDurationMin);
     }
-    res.append("\"");
+    return metricMessage(operation, status, res.toString(), duration, error);
+  }
+
+  /**
+   * Metric message for reporting to the stats logger.
+   *
+   * @param operation the operation name
+   * @param status the status of the operation
+   * @param parameters the parameters of the operation
+   * @param duration the duration of the operation
+   * @param error the error message (optional)
+   * @return the string
+   */
+  protected String metricMessage(String operation, String status, String parameters, Long duration, String error) {
+    StringBuilder res = new StringBuilder("service=webconferencing");
+    res.append(" operation=").append(operation);
+    res.append(" status=").append(status);
+    res.append(" parameters=\"").append(parameters).append("\"");
     if (error != null && error.length() > 0) {
       res.append(" error_msg=\"").append(error).append("\"");
     }
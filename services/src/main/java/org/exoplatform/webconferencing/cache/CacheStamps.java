@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+import org.exoplatform.services.cache.CacheListener;
+import org.exoplatform.services.cache.CacheListenerContext;
+import org.exoplatform.services.cache.ExoCache;
+
+/**
+ * Invalidation stamps of a read-through cache. A reader takes a stamp of a key before reading the
+ * storage and puts the read value only if the key wasn't invalidated (removed from the cache, locally or
+ * on other cluster node) since then. Without it a value read before a concurrent change could be put
+ * after the change invalidated the key and then stay in the cache until a next change.<br>
+ * Stamps are counted by stripes of key hashes, thus an invalidation of a key may skip caching of other
+ * keys of the same stripe, this only costs a next read from the storage. Keys removed on this node via
+ * {@link #remove(Object)} or {@link #clear()} are invalidated directly, removals and puts on other nodes
+ * are caught by listening the cache.<br>
+ * A cached value can be updated in place by {@link #update(Object, UnaryOperator)}, it's a write-through
+ * of a change already saved in the storage. Updates of the same key on this node are serialized, a
+ * concurrent change of the key on other node removes it from the cache.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CacheStamps.java 00000 Oct 16, 2026 $
+ */
+public class CacheStamps<K, V> implements CacheListener<K, V> {
+
+  /** The stripes count (a power of two). */
+  public static final int         STRIPES = 256;
+
+  /** The cache. */
+  protected final ExoCache<K, V>  cache;
+
+  /** The stamps by stripe. */
+  protected final AtomicLongArray stamps  = new AtomicLongArray(STRIPES);
+
+  /** The locks of updates by stripe. */
+  protected final Object[]        locks   = new Object[STRIPES];
+
+  /** Set while this node puts a value, its own puts aren't invalidations. */
+  protected final ThreadLocal<K>  putting = new ThreadLocal<>();
+
+  /**
+   * Instantiates a new cache stamps and registers them as a listener of given cache.
+   *
+   * @param cache the cache
+   */
+  public CacheStamps(ExoCache<K, V> cache) {
+    this.cache = cache;
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new Object();
+    }
+    cache.addCacheListener(this);
+  }
+
+  /**
+   * Take a stamp of given key. It should be done before reading the value from the storage.
+   *
+   * @param key the key
+   * @return the stamp
+   */
+  public long stamp(K key) {
+    return stamps.get(stripe(key));
+  }
+
+  /**
+   * Put the value in the cache if its key wasn't invalidated since given stamp. If the key was invalidated
+   * during the put, the value will be removed from the cache.
+   *
+   * @param key the key
+   * @param value the value
+   * @param stamp the stamp taken before reading the value
+   * @return <code>true</code>, if value was put and remains in the cache
+   */
+  public boolean put(K key, V value, long stamp) {
+    int stripe = stripe(key);
+    if (stamps.get(stripe) == stamp) {
+      putting.set(key);
+      try {
+        cache.put(key, value);
+      } finally {
+        putting.remove();
+      }
+      if (stamps.get(stripe) == stamp) {
+        return true;
+      }
+      // Invalidated while we were putting: the value can be stale
+      cache.remove(key);
+    }
+    return false;
+  }
+
+  /**
+   * Update the cached value of given key with a change already saved in the storage. If the key isn't
+   * cached, it will be invalidated (a value read before the change will not be put). If the update function
+   * returns <code>null</code> (it cannot apply the change) or the key was invalidated concurrently, the key
+   * will be removed from the cache.
+   *
+   * @param key the key
+   * @param update the update function, it gets a cached value and returns a new one
+   * @return <code>true</code>, if the value was updated and remains in the cache
+   */
+  public boolean update(K key, UnaryOperator<V> update) {
+    int stripe = stripe(key);
+    synchronized (locks[stripe]) {
+      // New stamp: values read from the storage before the change will not be put after this update
+      long stamp = stamps.incrementAndGet(stripe);
+      V value = cache.get(key);
+      if (value != null) {
+        V updated = update.apply(value);
+        if (updated != null && put(key, updated, stamp)) {
+          return true;
+        }
+        remove(key);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Invalidate given key and remove it from the cache.
+   *
+   * @param key the key
+   * @return the removed value or <code>null</code> if it wasn't cached
+   */
+  public V remove(K key) {
+    invalidate(key);
+    return cache.remove(key);
+  }
+
+  /**
+   * Invalidate all keys and clear the cache.
+   */
+  public void clear() {
+    invalidateAll();
+    cache.clearCache();
+  }
+
+  /**
+   * Invalidate given key.
+   *
+   * @param key the key
+   */
+  public void invalidate(K key) {
+    stamps.incrementAndGet(stripe(key));
+  }
+
+  /**
+   * Invalidate all keys.
+   */
+  public void invalidateAll() {
+    for (int i = 0; i < STRIPES; i++) {
+      stamps.incrementAndGet(i);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onExpire(CacheListenerContext context, K key, V obj) throws Exception {
+    // Nothing: expiration doesn't mean the value changed
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onRemove(CacheListenerContext context, K key, V obj) throws Exception {
+    invalidate(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onPut(CacheListenerContext context, K key, V obj) throws Exception {
+    if (!key.equals(putting.get())) {
+      // Put by other node (or bypassing the stamps): a value read or updated here meanwhile can be stale
+      invalidate(key);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onGet(CacheListenerContext context, K key, V obj) throws Exception {
+    // Nothing
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onClearCache(CacheListenerContext context) throws Exception {
+    invalidateAll();
+  }
+
+  /**
+   * Stripe of given key.
+   *
+   * @param key the key
+   * @return the stripe index
+   */
+  protected int stripe(K key) {
+    int h = key.hashCode();
+    return (h ^ (h >>> 16)) & (STRIPES - 1);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hits and misses counters of a cache (or of a cache usage by some operation).
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CacheStats.java 00000 Oct 16, 2026 $
+ */
+public class CacheStats {
+
+  /** The hits. */
+  private final AtomicLong hits   = new AtomicLong();
+
+  /** The misses. */
+  private final AtomicLong misses = new AtomicLong();
+
+  /**
+   * Count a hit.
+   */
+  public void hit() {
+    hits.incrementAndGet();
+  }
+
+  /**
+   * Count a miss.
+   */
+  public void miss() {
+    misses.incrementAndGet();
+  }
+
+  /**
+   * Gets the hits count.
+   *
+   * @return the hits
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * Gets the misses count.
+   *
+   * @return the misses
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Gets the hit ratio.
+   *
+   * @return the hit ratio from 0 to 1, or 0 if cache was not used
+   */
+  public double getHitRatio() {
+    long h = hits.get();
+    long total = h + misses.get();
+    return total > 0 ? (double) h / total : 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "hits=" + getHits() + " misses=" + getMisses() + " ratio=" + String.format("%.3f", getHitRatio());
+  }
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import static org.exoplatform.webconferencing.cache.UserData.readString;
+import static org.exoplatform.webconferencing.cache.UserData.writeString;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Cached snapshot of a call as it is saved in the storage: the call entity fields, its participants, origins
+ * and invite ID. It is used to build {@link org.exoplatform.webconferencing.CallInfo} without reading the
+ * storage. This object is immutable and may be replicated in a cluster.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallData.java 00000 Oct 16, 2026 $
+ */
+public class CallData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = -2473915482276503189L;
+
+  /**
+   * Saved call participant.
+   */
+  public static class ParticipantData {
+
+    /** The id. */
+    private final String id;
+
+    /** The type. */
+    private final String type;
+
+    /** The state. */
+    private final String state;
+
+    /** The client id. */
+    private final String clientId;
+
+    /** The storage version. */
+    private final long   version;
+
+    /**
+     * Instantiates a new participant data.
+     *
+     * @param id the id
+     * @param type the type
+     * @param state the state
+     * @param clientId the client id
+     * @param version the storage version
+     */
+    public ParticipantData(String id, String type, String state, String clientId, long version) {
+      this.id = id;
+      this.type = type;
+      this.state = state;
+      this.clientId = clientId;
+      this.version = version;
+    }
+
+    /**
+     * Gets the id.
+     *
+     * @return the id
+     */
+    public String getId() {
+      return id;
+    }
+
+    /**
+     * Gets the type.
+     *
+     * @return the type
+     */
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * Gets the state.
+     *
+     * @return the state
+     */
+    public String getState() {
+      return state;
+    }
+
+    /**
+     * Gets the client id.
+     *
+     * @return the client id
+     */
+    public String getClientId() {
+      return clientId;
+    }
+
+    /**
+     * Gets the storage version.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+      return version;
+    }
+  }
+
+  /** The id. */
+  private String                id;
+
+  /** The provider type. */
+  private String                providerType;
+
+  /** The owner type. */
+  private String                ownerType;
+
+  /** The owner id. */
+  private String                ownerId;
+
+  /** The state. */
+  private String                state;
+
+  /** The title. */
+  private String                title;
+
+  /** The settings. */
+  private String                settings;
+
+  /** The last date. */
+  private Date                  lastDate;
+
+  /** The start date. */
+  private Date                  startDate;
+
+  /** The end date. */
+  private Date                  endDate;
+
+  /** The is group. */
+  private boolean               isGroup;
+
+  /** The invite id. */
+  private String                inviteId;
+
+  /** The participants, <code>null</code> if not read from the storage. */
+  private List<ParticipantData> participants;
+
+  /** The user origins (actual for space events). */
+  private List<String>          userOrigins;
+
+  /** The space origins (actual for space events). */
+  private List<String>          spaceOrigins;
+
+  /** The storage version. */
+  private long                  version;
+
+  /**
+   * Instantiates a new call data.
+   *
+   * @param id the id
+   * @param providerType the provider type
+   * @param ownerType the owner type
+   * @param ownerId the owner id
+   * @param state the state
+   * @param title the title
+   * @param settings the settings
+   * @param lastDate the last date
+   * @param startDate the start date
+   * @param endDate the end date
+   * @param isGroup the is group
+   * @param inviteId the invite id
+   * @param participants the participants, can be <code>null</code> if not read
+   * @param userOrigins the user origins
+   * @param spaceOrigins the space origins
+   * @param version the storage version
+   */
+  public CallData(String id,
+                  String providerType,
+                  String ownerType,
+                  String ownerId,
+                  String state,
+                  String title,
+                  String settings,
+                  Date lastDate,
+                  Date startDate,
+                  Date endDate,
+                  boolean isGroup,
+                  String inviteId,
+                  List<ParticipantData> participants,
+                  List<String> userOrigins,
+                  List<String> spaceOrigins,
+                  long version) {
+    this.id = id;
+    this.providerType = providerType;
+    this.ownerType = ownerType;
+    this.ownerId = ownerId;
+    this.state = state;
+    this.title = title;
+    this.settings = settings;
+    this.lastDate = copy(lastDate);
+    this.startDate = copy(startDate);
+    this.endDate = copy(endDate);
+    this.isGroup = isGroup;
+    this.inviteId = inviteId;
+    this.participants = participants != null ? Collections.unmodifiableList(new ArrayList<>(participants)) : null;
+    this.userOrigins = Collections.unmodifiableList(new ArrayList<>(userOrigins));
+    this.spaceOrigins = Collections.unmodifiableList(new ArrayList<>(spaceOrigins));
+    this.version = version;
+  }
+
+  /**
+   * Instantiates a new call data (for serialization).
+   */
+  public CallData() {
+  }
+
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the provider type.
+   *
+   * @return the provider type
+   */
+  public String getProviderType() {
+    return providerType;
+  }
+
+  /**
+   * Gets the owner type.
+   *
+   * @return the owner type
+   */
+  public String getOwnerType() {
+    return ownerType;
+  }
+
+  /**
+   * Gets the owner id.
+   *
+   * @return the owner id
+   */
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * Gets the state.
+   *
+   * @return the state
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Gets the title.
+   *
+   * @return the title
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * Gets the settings.
+   *
+   * @return the settings
+   */
+  public String getSettings() {
+    return settings;
+  }
+
+  /**
+   * Gets the last date.
+   *
+   * @return the last date
+   */
+  public Date getLastDate() {
+    return copy(lastDate);
+  }
+
+  /**
+   * Gets the start date.
+   *
+   * @return the start date
+   */
+  public Date getStartDate() {
+    return copy(startDate);
+  }
+
+  /**
+   * Gets the end date.
+   *
+   * @return the end date
+   */
+  public Date getEndDate() {
+    return copy(endDate);
+  }
+
+  /**
+   * Checks if is group call.
+   *
+   * @return true, if is group
+   */
+  public boolean isGroup() {
+    return isGroup;
+  }
+
+  /**
+   * Gets the invite id.
+   *
+   * @return the invite id
+   */
+  public String getInviteId() {
+    return inviteId;
+  }
+
+  /**
+   * Gets the participants.
+   *
+   * @return the participants or <code>null</code> if they were not read from the storage
+   */
+  public List<ParticipantData> getParticipants() {
+    return participants;
+  }
+
+  /**
+   * Gets the user origins.
+   *
+   * @return the user origins
+   */
+  public List<String> getUserOrigins() {
+    return userOrigins;
+  }
+
+  /**
+   * Gets the space origins.
+   *
+   * @return the space origins
+   */
+  public List<String> getSpaceOrigins() {
+    return spaceOrigins;
+  }
+
+  /**
+   * Gets the storage version of the call.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Copy of this call data with given participant state saved in the storage. The participant should be
+   * already in the call data with the previous version (one less than given), otherwise the change cannot
+   * be applied on this data.
+   *
+   * @param participant the participant with its new version
+   * @return the new call data, or <code>null</code> if the participant not found or has unexpected version
+   */
+  public CallData withParticipant(ParticipantData participant) {
+    if (participants != null) {
+      List<ParticipantData> parts = new ArrayList<>(participants);
+      for (int i = 0; i < parts.size(); i++) {
+        ParticipantData p = parts.get(i);
+        if (p.getId().equals(participant.getId())) {
+          if (p.getVersion() + 1 == participant.getVersion()) {
+            parts.set(i, participant);
+            return new CallData(id,
+                                providerType,
+                                ownerType,
+                                ownerId,
+                                state,
+                                title,
+                                settings,
+                                lastDate,
+                                startDate,
+                                endDate,
+                                isGroup,
+                                inviteId,
+                                parts,
+                                userOrigins,
+                                spaceOrigins,
+                                version);
+          }
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeUTF(id);
+    writeString(out, providerType);
+    writeString(out, ownerType);
+    writeString(out, ownerId);
+    writeString(out, state);
+    writeString(out, title);
+    writeString(out, settings);
+    writeDate(out, lastDate);
+    writeDate(out, startDate);
+    writeDate(out, endDate);
+    out.writeBoolean(isGroup);
+    writeString(out, inviteId);
+    if (participants != null) {
+      out.writeInt(participants.size());
+      for (ParticipantData p : participants) {
+        out.writeUTF(p.getId());
+        writeString(out, p.getType());
+        writeString(out, p.getState());
+        writeString(out, p.getClientId());
+        out.writeLong(p.getVersion());
+      }
+    } else {
+      out.writeInt(-1);
+    }
+    writeStrings(out, userOrigins);
+    writeStrings(out, spaceOrigins);
+    out.writeLong(version);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    this.id = in.readUTF();
+    this.providerType = readString(in);
+    this.ownerType = readString(in);
+    this.ownerId = readString(in);
+    this.state = readString(in);
+    this.title = readString(in);
+    this.settings = readString(in);
+    this.lastDate = readDate(in);
+    this.startDate = readDate(in);
+    this.endDate = readDate(in);
+    this.isGroup = in.readBoolean();
+    this.inviteId = readString(in);
+    int partsSize = in.readInt();
+    if (partsSize >= 0) {
+      List<ParticipantData> parts = new ArrayList<>(partsSize);
+      for (int i = 0; i < partsSize; i++) {
+        parts.add(new ParticipantData(in.readUTF(), readString(in), readString(in), readString(in), in.readLong()));
+      }
+      this.participants = Collections.unmodifiableList(parts);
+    } else {
+      this.participants = null;
+    }
+    this.userOrigins = readStrings(in);
+    this.spaceOrigins = readStrings(in);
+    this.version = in.readLong();
+  }
+
+  /**
+   * Copy a date.
+   *
+   * @param date the date
+   * @return the copy or <code>null</code>
+   */
+  private static Date copy(Date date) {
+    return date != null ? new Date(date.getTime()) : null;
+  }
+
+  /**
+   * Write a nullable date.
+   *
+   * @param out the out
+   * @param date the date
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static void writeDate(ObjectOutput out, Date date) throws IOException {
+    out.writeLong(date != null ? date.getTime() : Long.MIN_VALUE);
+  }
+
+  /**
+   * Read a nullable date.
+   *
+   * @param in the in
+   * @return the date or <code>null</code>
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static Date readDate(ObjectInput in) throws IOException {
+    long time = in.readLong();
+    return time != Long.MIN_VALUE ? new Date(time) : null;
+  }
+
+  /**
+   * Write a list of strings.
+   *
+   * @param out the out
+   * @param strs the strings
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static void writeStrings(ObjectOutput out, List<String> strs) throws IOException {
+    out.writeInt(strs.size());
+    for (String s : strs) {
+      out.writeUTF(s);
+    }
+  }
+
+  /**
+   * Read a list of strings.
+   *
+   * @param in the in
+   * @return the list
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  private static List<String> readStrings(ObjectInput in) throws IOException {
+    int size = in.readInt();
+    List<String> strs = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      strs.add(in.readUTF());
+    }
+    return Collections.unmodifiableList(strs);
+  }
+}
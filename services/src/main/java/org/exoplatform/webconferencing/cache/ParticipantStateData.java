@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import static org.exoplatform.webconferencing.cache.UserData.readString;
+import static org.exoplatform.webconferencing.cache.UserData.writeString;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Live state of a call participant kept in the hot call-state store until it will be written to the
+ * storage. This object is immutable and may be replicated in a cluster.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ParticipantStateData.java 00000 Oct 16, 2026 $
+ */
+public class ParticipantStateData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = -3107765420939517414L;
+
+  /** The call id. */
+  private String            callId;
+
+  /** The participant id. */
+  private String            id;
+
+  /** The state. */
+  private String            state;
+
+  /** The client id. */
+  private String            clientId;
+
+  /** The time of the state change. */
+  private long              time;
+
+  /**
+   * Instantiates a new participant state data.
+   *
+   * @param callId the call id
+   * @param id the participant id
+   * @param state the state
+   * @param clientId the client id
+   * @param time the time of the state change
+   */
+  public ParticipantStateData(String callId, String id, String state, String clientId, long time) {
+    this.callId = callId;
+    this.id = id;
+    this.state = state;
+    this.clientId = clientId;
+    this.time = time;
+  }
+
+  /**
+   * Instantiates a new participant state data (for serialization).
+   */
+  public ParticipantStateData() {
+  }
+
+  /**
+   * Gets the key of participant state in a call.
+   *
+   * @param callId the call id
+   * @param id the participant id
+   * @return the key
+   */
+  public static String key(String callId, String id) {
+    return new StringBuilder(callId).append('/').append(id).toString();
+  }
+
+  /**
+   * Gets the key of this state.
+   *
+   * @return the key
+   */
+  public String getKey() {
+    return key(callId, id);
+  }
+
+  /**
+   * Gets the call id.
+   *
+   * @return the call id
+   */
+  public String getCallId() {
+    return callId;
+  }
+
+  /**
+   * Gets the participant id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the state.
+   *
+   * @return the state
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Gets the client id.
+   *
+   * @return the client id
+   */
+  public String getClientId() {
+    return clientId;
+  }
+
+  /**
+   * Gets the time of the state change.
+   *
+   * @return the time in milliseconds
+   */
+  public long getTime() {
+    return time;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return getKey().hashCode();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj instanceof ParticipantStateData) {
+      ParticipantStateData other = (ParticipantStateData) obj;
+      return time == other.time && callId.equals(other.callId) && id.equals(other.id)
+          && (state == null ? other.state == null : state.equals(other.state))
+          && (clientId == null ? other.clientId == null : clientId.equals(other.clientId));
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeUTF(callId);
+    out.writeUTF(id);
+    writeString(out, state);
+    writeString(out, clientId);
+    out.writeLong(time);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    this.callId = in.readUTF();
+    this.id = in.readUTF();
+    this.state = readString(in);
+    this.clientId = readString(in);
+    this.time = in.readLong();
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import org.exoplatform.container.ExoContainerContext;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.social.core.profile.ProfileLifeCycleEvent;
+import org.exoplatform.social.core.profile.ProfileListenerPlugin;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached user data in {@link WebConferencingService} when an user profile (names, avatar,
+ * IM accounts) updated in Social.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ProfileCacheListener.java 00000 Oct 16, 2026 $
+ */
+public class ProfileCacheListener extends ProfileListenerPlugin {
+
+  /** The Constant LOG. */
+  protected static final Log LOG = ExoLogger.getLogger(ProfileCacheListener.class);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void avatarUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void basicInfoUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void contactSectionUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void experienceSectionUpdated(ProfileLifeCycleEvent event) {
+    // not used in user info
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void headerSectionUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void createProfile(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * Banner updated (not used in user info).
+   *
+   * @param event the event
+   */
+  public void bannerUpdated(ProfileLifeCycleEvent event) {
+    // not used in user info
+  }
+
+  /**
+   * About me updated (not used in user info).
+   *
+   * @param event the event
+   */
+  public void aboutMeUpdated(ProfileLifeCycleEvent event) {
+    // not used in user info
+  }
+
+  /**
+   * Technical fields updated.
+   *
+   * @param event the event
+   */
+  public void technicalUpdated(ProfileLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * Invalidate the user data.
+   *
+   * @param event the event
+   */
+  protected void invalidate(ProfileLifeCycleEvent event) {
+    // Lookup lazily as Social identity manager may start before the web conferencing
+    WebConferencingService webConferencing =
+                                           ExoContainerContext.getCurrentContainer()
+                                                              .getComponentInstanceOfType(WebConferencingService.class);
+    if (webConferencing != null) {
+      webConferencing.invalidateUserInfo(event.getUsername());
+    } else if (LOG.isDebugEnabled()) {
+      LOG.debug("Web Conferencing service not found to invalidate user " + event.getUsername());
+    }
+  }
+}
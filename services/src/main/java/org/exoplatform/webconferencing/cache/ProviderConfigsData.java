@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.exoplatform.webconferencing.CallProviderConfiguration;
+
+/**
+ * Snapshot of call provider configurations saved in the settings storage. This object is immutable and may be
+ * replicated in a cluster, it contains only saved fields of the configurations (type and active flag).
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ProviderConfigsData.java 00000 Oct 16, 2026 $
+ */
+public class ProviderConfigsData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long    serialVersionUID = 2483937153170563617L;
+
+  /** The active flags by provider type. */
+  private Map<String, Boolean> active;
+
+  /**
+   * Instantiates a new provider configurations snapshot.
+   *
+   * @param configs the saved configurations
+   */
+  public ProviderConfigsData(Iterable<CallProviderConfiguration> configs) {
+    Map<String, Boolean> active = new HashMap<>();
+    for (CallProviderConfiguration conf : configs) {
+      active.put(conf.getType(), conf.isActive());
+    }
+    this.active = Collections.unmodifiableMap(active);
+  }
+
+  /**
+   * Instantiates a new provider configurations snapshot (for serialization).
+   */
+  public ProviderConfigsData() {
+    this.active = Collections.emptyMap();
+  }
+
+  /**
+   * Checks if provider of given type is active. Provider without a saved configuration is active.
+   *
+   * @param type the provider type
+   * @return true, if is active
+   */
+  public boolean isActive(String type) {
+    Boolean a = active.get(type);
+    return a == null || a.booleanValue();
+  }
+
+  /**
+   * Gets a copy of saved configuration of given provider type.
+   *
+   * @param type the provider type
+   * @return the configuration or <code>null</code> if it was not saved
+   */
+  public CallProviderConfiguration getConfiguration(String type) {
+    Boolean a = active.get(type);
+    if (a != null) {
+      CallProviderConfiguration conf = new CallProviderConfiguration();
+      conf.setType(type);
+      conf.setActive(a.booleanValue());
+      return conf;
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeInt(active.size());
+    for (Map.Entry<String, Boolean> e : active.entrySet()) {
+      out.writeUTF(e.getKey());
+      out.writeBoolean(e.getValue());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    int size = in.readInt();
+    Map<String, Boolean> active = new HashMap<>(size);
+    for (int i = 0; i < size; i++) {
+      active.put(in.readUTF(), in.readBoolean());
+    }
+    this.active = Collections.unmodifiableMap(active);
+  }
+}
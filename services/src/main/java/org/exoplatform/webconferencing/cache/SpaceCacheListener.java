@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import org.exoplatform.container.ExoContainerContext;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.social.core.space.SpaceListenerPlugin;
+import org.exoplatform.social.core.space.spi.SpaceLifeCycleEvent;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached space data in {@link WebConferencingService} when a space membership or its
+ * appearance (name, avatar) changed, or the space removed in Social.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: SpaceCacheListener.java 00000 Oct 16, 2026 $
+ */
+public class SpaceCacheListener extends SpaceListenerPlugin {
+
+  /** The Constant LOG. */
+  protected static final Log LOG = ExoLogger.getLogger(SpaceCacheListener.class);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceCreated(SpaceLifeCycleEvent event) {
+    // nothing cached yet
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceRemoved(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void applicationAdded(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void applicationRemoved(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void applicationActivated(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void applicationDeactivated(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void joined(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void left(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void grantedLead(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void revokedLead(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceRenamed(SpaceLifeCycleEvent event) {
+    // A previous pretty name isn't known here, renaming is rare and we can clean all spaces
+    WebConferencingService webConferencing = webConferencing();
+    if (webConferencing != null) {
+      webConferencing.invalidateSpacesInfo();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceDescriptionEdited(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceAvatarEdited(SpaceLifeCycleEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void spaceAccessEdited(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addInvitedUser(SpaceLifeCycleEvent event) {
+    // invited user isn't a member yet
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addPendingUser(SpaceLifeCycleEvent event) {
+    // pending user isn't a member yet
+  }
+
+  /**
+   * Space banner edited (not used in space data).
+   *
+   * @param event the event
+   */
+  public void spaceBannerEdited(SpaceLifeCycleEvent event) {
+    // not used in space data
+  }
+
+  /**
+   * Invalidate the space data.
+   *
+   * @param event the event
+   */
+  protected void invalidate(SpaceLifeCycleEvent event) {
+    WebConferencingService webConferencing = webConferencing();
+    if (webConferencing != null && event.getSpace() != null) {
+      webConferencing.invalidateSpaceInfo(event.getSpace().getPrettyName());
+    }
+  }
+
+  /**
+   * Gets the web conferencing service.
+   *
+   * @return the web conferencing service or <code>null</code> if not yet started
+   */
+  protected WebConferencingService webConferencing() {
+    // Lookup lazily as Social space service may start before the web conferencing
+    WebConferencingService webConferencing =
+                                           ExoContainerContext.getCurrentContainer()
+                                                              .getComponentInstanceOfType(WebConferencingService.class);
+    if (webConferencing == null && LOG.isDebugEnabled()) {
+      LOG.debug("Web Conferencing service not found to invalidate space data");
+    }
+    return webConferencing;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import static org.exoplatform.webconferencing.cache.UserData.readString;
+import static org.exoplatform.webconferencing.cache.UserData.writeString;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.exoplatform.social.core.space.model.Space;
+
+/**
+ * Cached space data with a snapshot of the space members, used to build space owners of calls and check
+ * membership without reading Social space service. This object is immutable and may be replicated in a
+ * cluster. Members are kept in a sorted array to check a membership without extra allocations.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: SpaceData.java 00000 Oct 16, 2026 $
+ */
+public class SpaceData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = -1287004577823915460L;
+
+  /** The pretty name. */
+  private String            prettyName;
+
+  /** The display name. */
+  private String            displayName;
+
+  /** The group id. */
+  private String            groupId;
+
+  /** The URL. */
+  private String            url;
+
+  /** The avatar URL. */
+  private String            avatarUrl;
+
+  /** The members, sorted. */
+  private String[]          members;
+
+  /**
+   * Instantiates a new space data.
+   *
+   * @param space the Social space
+   */
+  public SpaceData(Space space) {
+    this.prettyName = space.getPrettyName();
+    this.displayName = space.getDisplayName();
+    this.groupId = space.getGroupId();
+    this.url = space.getUrl();
+    this.avatarUrl = space.getAvatarUrl();
+    String[] members = space.getMembers();
+    this.members = members != null ? members.clone() : new String[0];
+    Arrays.sort(this.members);
+  }
+
+  /**
+   * Instantiates a new space data (for serialization).
+   */
+  public SpaceData() {
+    this.members = new String[0];
+  }
+
+  /**
+   * Gets the pretty name.
+   *
+   * @return the pretty name
+   */
+  public String getPrettyName() {
+    return prettyName;
+  }
+
+  /**
+   * Gets the display name.
+   *
+   * @return the display name
+   */
+  public String getDisplayName() {
+    return displayName;
+  }
+
+  /**
+   * Gets the group id.
+   *
+   * @return the group id
+   */
+  public String getGroupId() {
+    return groupId;
+  }
+
+  /**
+   * Gets the URL.
+   *
+   * @return the URL
+   */
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * Gets the avatar URL.
+   *
+   * @return the avatar URL
+   */
+  public String getAvatarUrl() {
+    return avatarUrl;
+  }
+
+  /**
+   * Gets the members sorted by their IDs.
+   *
+   * @return the members, unmodifiable
+   */
+  public List<String> getMembers() {
+    return Collections.unmodifiableList(Arrays.asList(members));
+  }
+
+  /**
+   * Checks if given user is a member of the space.
+   *
+   * @param userId the user id
+   * @return true, if is member
+   */
+  public boolean isMember(String userId) {
+    return Arrays.binarySearch(members, userId) >= 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeUTF(prettyName);
+    writeString(out, displayName);
+    writeString(out, groupId);
+    writeString(out, url);
+    writeString(out, avatarUrl);
+    out.writeInt(members.length);
+    for (String m : members) {
+      out.writeUTF(m);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    this.prettyName = in.readUTF();
+    this.displayName = readString(in);
+    this.groupId = readString(in);
+    this.url = readString(in);
+    this.avatarUrl = readString(in);
+    int size = in.readInt();
+    this.members = new String[size];
+    for (int i = 0; i < size; i++) {
+      this.members[i] = in.readUTF();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import org.exoplatform.container.ExoContainerContext;
+import org.exoplatform.services.log.ExoLogger;
+import org.exoplatform.services.log.Log;
+import org.exoplatform.services.organization.User;
+import org.exoplatform.services.organization.UserEventListener;
+import org.exoplatform.webconferencing.WebConferencingService;
+
+/**
+ * Invalidates cached user data in {@link WebConferencingService} when a user saved, enabled/disabled or
+ * removed in Organization Service.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: UserCacheListener.java 00000 Oct 16, 2026 $
+ */
+public class UserCacheListener extends UserEventListener {
+
+  /** The Constant LOG. */
+  protected static final Log LOG = ExoLogger.getLogger(UserCacheListener.class);
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postSave(User user, boolean isNew) throws Exception {
+    if (!isNew) {
+      invalidate(user);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postSetEnabled(User user) throws Exception {
+    invalidate(user);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void postDelete(User user) throws Exception {
+    invalidate(user);
+  }
+
+  /**
+   * Invalidate the user data.
+   *
+   * @param user the user
+   */
+  protected void invalidate(User user) {
+    // Lookup lazily: this listener is a plugin of Organization Service what the web conferencing
+    // depends on
+    WebConferencingService webConferencing =
+                                           ExoContainerContext.getCurrentContainer()
+                                                              .getComponentInstanceOfType(WebConferencingService.class);
+    if (webConferencing != null) {
+      webConferencing.invalidateUserInfo(user.getUserName());
+    } else if (LOG.isDebugEnabled()) {
+      LOG.debug("Web Conferencing service not found to invalidate user " + user.getUserName());
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.exoplatform.webconferencing.CallState;
+
+/**
+ * Cached states of calls where an user participates. This object is immutable and may be replicated in a
+ * cluster.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: UserCallsData.java 00000 Oct 16, 2026 $
+ */
+public class UserCallsData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = -3305128830710451592L;
+
+  /** The call IDs. */
+  private String[]          ids;
+
+  /** The call states. */
+  private String[]          states;
+
+  /**
+   * Instantiates a new user calls data.
+   *
+   * @param calls the call states
+   */
+  public UserCallsData(CallState[] calls) {
+    this.ids = new String[calls.length];
+    this.states = new String[calls.length];
+    for (int i = 0; i < calls.length; i++) {
+      this.ids[i] = calls[i].getId();
+      this.states[i] = calls[i].getState();
+    }
+  }
+
+  /**
+   * Instantiates a new user calls data (for serialization).
+   */
+  public UserCallsData() {
+    this.ids = new String[0];
+    this.states = new String[0];
+  }
+
+  /**
+   * Gets the call states. Each invocation returns a new array.
+   *
+   * @return the call states
+   */
+  public CallState[] getCalls() {
+    CallState[] calls = new CallState[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      calls[i] = new CallState(ids[i], states[i]);
+    }
+    return calls;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeInt(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      out.writeUTF(ids[i]);
+      out.writeUTF(states[i]);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    int size = in.readInt();
+    this.ids = new String[size];
+    this.states = new String[size];
+    for (int i = 0; i < size; i++) {
+      this.ids[i] = in.readUTF();
+      this.states[i] = in.readUTF();
+    }
+  }
+}
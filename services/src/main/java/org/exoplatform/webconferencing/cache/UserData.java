@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.cache;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.exoplatform.webconferencing.UserInfo.IMInfo;
+
+/**
+ * Cached user data used to build {@link org.exoplatform.webconferencing.UserInfo} without reading
+ * Organization and Social services. This object is immutable and may be replicated in a cluster, it
+ * contains raw IM accounts as saved in the user profile (not resolved by call providers). IM accounts
+ * resolved by providers are indexed locally on each node, see {@link #getImAccounts(Object)}.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: UserData.java 00000 Oct 16, 2026 $
+ */
+public class UserData implements Externalizable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = 6051712913924432745L;
+
+  /**
+   * Raw IM account as saved in a user profile.
+   */
+  public static class IMData {
+
+    /** The type. */
+    private final String type;
+
+    /** The id. */
+    private final String id;
+
+    /**
+     * Instantiates a new IM data.
+     *
+     * @param type the type
+     * @param id the id
+     */
+    public IMData(String type, String id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    /**
+     * Gets the type.
+     *
+     * @return the type
+     */
+    public String getType() {
+      return type;
+    }
+
+    /**
+     * Gets the id.
+     *
+     * @return the id
+     */
+    public String getId() {
+      return id;
+    }
+  }
+
+  /** The user id. */
+  private String       id;
+
+  /** The first name. */
+  private String       firstName;
+
+  /** The last name. */
+  private String       lastName;
+
+  /** The avatar link. */
+  private String       avatarLink;
+
+  /** The IM accounts. */
+  private List<IMData> ims;
+
+  /**
+   * Index of IM accounts resolved by providers, it's not serialized and built on each node on first
+   * use.
+   */
+  private transient volatile IMIndex imIndex;
+
+  /**
+   * IM accounts resolved for some version of provider configurations.
+   */
+  private static class IMIndex {
+
+    /** The providers version. */
+    final Object       providersVersion;
+
+    /** The IM accounts. */
+    final List<IMInfo> imAccounts;
+
+    /**
+     * Instantiates a new IM index.
+     *
+     * @param providersVersion the providers version
+     * @param imAccounts the IM accounts
+     */
+    IMIndex(Object providersVersion, List<IMInfo> imAccounts) {
+      this.providersVersion = providersVersion;
+      this.imAccounts = imAccounts;
+    }
+  }
+
+  /**
+   * Instantiates a new user data.
+   *
+   * @param id the user id
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param avatarLink the avatar link
+   * @param ims the IM accounts
+   */
+  public UserData(String id, String firstName, String lastName, String avatarLink, List<IMData> ims) {
+    this.id = id;
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.avatarLink = avatarLink;
+    this.ims = Collections.unmodifiableList(new ArrayList<>(ims));
+  }
+
+  /**
+   * Instantiates a new user data (for serialization).
+   */
+  public UserData() {
+    this.ims = Collections.emptyList();
+  }
+
+  /**
+   * Gets the user id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the first name.
+   *
+   * @return the first name
+   */
+  public String getFirstName() {
+    return firstName;
+  }
+
+  /**
+   * Gets the last name.
+   *
+   * @return the last name
+   */
+  public String getLastName() {
+    return lastName;
+  }
+
+  /**
+   * Gets the avatar link.
+   *
+   * @return the avatar link
+   */
+  public String getAvatarLink() {
+    return avatarLink;
+  }
+
+  /**
+   * Gets the raw IM accounts.
+   *
+   * @return the IM accounts
+   */
+  public List<IMData> getIms() {
+    return ims;
+  }
+
+  /**
+   * Gets the IM accounts resolved by providers for given version of their configurations.
+   *
+   * @param providersVersion the providers configuration version (compared by identity)
+   * @return the IM accounts or <code>null</code> if not yet indexed for given providers version
+   */
+  public List<IMInfo> getImAccounts(Object providersVersion) {
+    IMIndex index = imIndex;
+    return index != null && index.providersVersion == providersVersion ? index.imAccounts : null;
+  }
+
+  /**
+   * Index the IM accounts resolved by providers for given version of their configurations.
+   *
+   * @param providersVersion the providers configuration version (compared by identity)
+   * @param imAccounts the IM accounts
+   * @return the indexed IM accounts, unmodifiable
+   */
+  public List<IMInfo> indexImAccounts(Object providersVersion, List<IMInfo> imAccounts) {
+    List<IMInfo> indexed = Collections.unmodifiableList(new ArrayList<>(imAccounts));
+    this.imIndex = new IMIndex(providersVersion, indexed);
+    return indexed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeUTF(id);
+    writeString(out, firstName);
+    writeString(out, lastName);
+    writeString(out, avatarLink);
+    out.writeInt(ims.size());
+    for (IMData im : ims) {
+      out.writeUTF(im.getType());
+      out.writeUTF(im.getId());
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    this.id = in.readUTF();
+    this.firstName = readString(in);
+    this.lastName = readString(in);
+    this.avatarLink = readString(in);
+    int imsSize = in.readInt();
+    List<IMData> ims = new ArrayList<>(imsSize);
+    for (int i = 0; i < imsSize; i++) {
+      ims.add(new IMData(in.readUTF(), in.readUTF()));
+    }
+    this.ims = Collections.unmodifiableList(ims);
+  }
+
+  /**
+   * Write a nullable string.
+   *
+   * @param out the out
+   * @param str the string
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static void writeString(ObjectOutput out, String str) throws IOException {
+    out.writeBoolean(str != null);
+    if (str != null) {
+      out.writeUTF(str);
+    }
+  }
+
+  /**
+   * Read a nullable string.
+   *
+   * @param in the in
+   * @return the string or <code>null</code>
+   * @throws IOException Signals that an I/O exception has occurred.
+   */
+  static String readString(ObjectInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
@@ -86,6 +86,8 @@ import org.exoplatform.commons.utils.PropertyManager;
 import org.exoplatform.container.ExoContainer;
 import org.exoplatform.container.ExoContainerContext;
 import org.exoplatform.container.component.RequestLifeCycle;
+import org.exoplatform.container.xml.InitParams;
+import org.exoplatform.container.xml.PropertiesParam;
 import org.exoplatform.services.cache.CacheListener;
 import org.exoplatform.services.cache.CacheListenerContext;
 import org.exoplatform.services.cache.CacheService;
@@ -98,8 +100,10 @@ import org.exoplatform.services.security.ConversationState;
 import org.exoplatform.services.security.Identity;
 import org.exoplatform.services.security.IdentityConstants;
 import org.exoplatform.services.security.IdentityRegistry;
+import org.exoplatform.webconferencing.CallEvent;
 import org.exoplatform.webconferencing.CallInfo;
 import org.exoplatform.webconferencing.CallInfoException;
+import org.exoplatform.webconferencing.CallListener;
 import org.exoplatform.webconferencing.CallNotFoundException;
 import org.exoplatform.webconferencing.CallState;
 import org.exoplatform.webconferencing.IdentityData;
@@ -177,13 +181,16 @@ public class CometdWebConferencingService implements Startable {
   public static final String             COMMAND_GET_ORG_IDENTITIES            = "get_org_identities";
   
   /** The Constant EVENT_CALL_LEAVED. */
-  public static final String             EVENT_CALL_LEAVED = "call_leaved";
+  public static final String             EVENT_CALL_LEAVED = CallEvent.TYPE_CALL_LEAVED;
   
   /** The Constant EVENT_CALL_JOINED. */
-  public static final String             EVENT_CALL_JOINED = "call_joined";
+  public static final String             EVENT_CALL_JOINED = CallEvent.TYPE_CALL_JOINED;
   
   /** The Constant EVENT_CALL_STATE. */
-  public static final String             EVENT_CALL_STATE = "call_state";
+  public static final String             EVENT_CALL_STATE = CallEvent.TYPE_CALL_STATE;
+
+  /** The Constant EVENT_CALL_ROSTER. */
+  public static final String             EVENT_CALL_ROSTER = CallEvent.TYPE_CALL_ROSTER;
 
   /** The Constant LOG_OK. */
   public static final String             LOG_OK                                = "{}";
@@ -216,6 +223,12 @@ public class CometdWebConferencingService implements Startable {
    */
   public static final String             CALL_THREAD_PREFIX                    = "webconferencing-call-thread-";
 
+  /** The Constant CALL_CHANNEL_PROPERTIES. */
+  public static final String             CALL_CHANNEL_PROPERTIES               = "call-channel";
+
+  /** The Constant CALL_CHANNEL_EVENTS_ENABLED. */
+  public static final String             CALL_CHANNEL_EVENTS_ENABLED           = "participant-events-enabled";
+
   /** The Constant LOG. */
   private static final Log               LOG                                   =
                                              ExoLogger.getLogger(CometdWebConferencingService.class);
@@ -244,6 +257,15 @@ public class CometdWebConferencingService implements Startable {
   /** Cache of connected users. */
   protected final ExoCache<String, UserCallProxy>  usersCache;
 
+  /**
+   * Publish participant events once to call channels instead of user channels of each participant. It's
+   * disabled by default.
+   */
+  protected final boolean                callChannelEvents;
+
+  /** The state of user call proxies of call events, it's immutable and shared by all them. */
+  protected static final EventProxy     CALL_STATE = new EventProxy(EventProxy.CALL);
+
   /**
    * The Class CallEventProxy.
    */
@@ -259,6 +281,11 @@ public class CometdWebConferencingService implements Startable {
      */
     public static final String CLOSE = "__close";
 
+    /**
+     * The Constant CALL - means it's a call event type, the event itself is a payload of {@link UserCallProxy}.
+     */
+    public static final String CALL  = "__call";
+
     /** The event type. */
     protected String           type;
 
@@ -330,223 +357,6 @@ public class CometdWebConferencingService implements Startable {
     }
   }
 
-  /**
-   * The Class CallEventProxy.
-   */
-  static public abstract class CallEventProxy extends EventProxy implements Externalizable {
-
-    /** The call id. */
-    protected String callId;
-
-    /** The provider type. */
-    protected String providerType;
-
-    /** The owner id. */
-    protected String ownerId;
-
-    /** The owner type. */
-    protected String ownerType;
-
-    /**
-     * Instantiates a new call event proxy (for serialization).
-     */
-    public CallEventProxy() {
-      super();
-    }
-
-    /**
-     * Instantiates a new call event proxy.
-     *
-     * @param eventType the event type
-     * @param callId the call id
-     * @param providerType the provider type
-     * @param ownerId the owner id
-     * @param ownerType the owner type
-     */
-    CallEventProxy(String eventType, String callId, String providerType, String ownerId, String ownerType) {
-      super(eventType);
-      this.callId = callId;
-      this.providerType = providerType;
-      this.ownerId = ownerId;
-      this.ownerType = ownerType;
-    }
-
-    /**
-     * Gets the call id.
-     *
-     * @return the callId
-     */
-    String getCallId() {
-      return callId;
-    }
-
-    /**
-     * Gets the provider type.
-     *
-     * @return the providerType
-     */
-    String getProviderType() {
-      return providerType;
-    }
-
-    /**
-     * Gets the owner id.
-     *
-     * @return the ownerId
-     */
-    String getOwnerId() {
-      return ownerId;
-    }
-
-    /**
-     * Gets the owner type.
-     *
-     * @return the ownerType
-     */
-    String getOwnerType() {
-      return ownerType;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(callId);
-      out.writeUTF(providerType);
-      out.writeUTF(ownerId);
-      out.writeUTF(ownerType);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.callId = in.readUTF();
-      this.providerType = in.readUTF();
-      this.ownerId = in.readUTF();
-      this.ownerType = in.readUTF();
-    }
-  }
-
-  /**
-   * The Class CallParticipantEvent (joined and leaved participant).
-   */
-  static public class CallParticipantEvent extends CallEventProxy implements Externalizable {
-
-    /** The part id. */
-    private String partId;
-
-    /**
-     * Instantiates a new call participant event (for serialization).
-     */
-    public CallParticipantEvent() {
-      super();
-    }
-
-    /**
-     * Instantiates a new call participant event.
-     *
-     * @param eventType the event type
-     * @param callId the call id
-     * @param providerType the provider type
-     * @param ownerId the owner id
-     * @param ownerType the owner type
-     * @param partId the part id
-     */
-    CallParticipantEvent(String eventType, String callId, String providerType, String ownerId, String ownerType, String partId) {
-      super(eventType, callId, providerType, ownerId, ownerType);
-      this.partId = partId;
-    }
-
-    /**
-     * Gets the part id.
-     *
-     * @return the partId
-     */
-    String getPartId() {
-      return partId;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(partId);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.partId = in.readUTF();
-    }
-  }
-
-  /**
-   * The Class CallStateEvent (started, stopped calls).
-   */
-  static public class CallStateEvent extends CallEventProxy implements Externalizable {
-
-    /** The state. */
-    private String state;
-
-    /**
-     * Instantiates a new call state event (for serialization).
-     */
-    public CallStateEvent() {
-      super();
-    }
-
-    /**
-     * Instantiates a new call participant event.
-     *
-     * @param callId the call id
-     * @param providerType the provider type
-     * @param ownerId the owner id
-     * @param ownerType the owner type
-     * @param state the call state
-     */
-    CallStateEvent(String callId, String providerType, String ownerId, String ownerType, String state) {
-      super(EVENT_CALL_STATE, callId, providerType, ownerId, ownerType);
-      this.state = state;
-    }
-
-    /**
-     * Gets the state.
-     *
-     * @return the state
-     */
-    String getState() {
-      return state;
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void writeExternal(ObjectOutput out) throws IOException {
-      super.writeExternal(out);
-      out.writeUTF(state);
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void readExternal(ObjectInput in) throws IOException {
-      super.readExternal(in);
-      this.state = in.readUTF();
-    }
-  }
-
   /**
    * The Class UserCallProxy.
    */
@@ -561,6 +371,9 @@ public class CometdWebConferencingService implements Startable {
     /** The state - it's a payload of the call in caches. */
     private EventProxy state;
 
+    /** The call event, <code>null</code> for initial and closing states. */
+    private CallEvent  event;
+
     /**
      * Instantiates a new user call proxy (for serialization).
      */
@@ -568,6 +381,18 @@ public class CometdWebConferencingService implements Startable {
       this.state = new EventProxy(); // initial state by default
     }
 
+    /**
+     * Instantiates a new user call proxy of a call event.
+     *
+     * @param userId the user id
+     * @param clientId the client id
+     * @param event the call event
+     */
+    UserCallProxy(String userId, String clientId, CallEvent event) {
+      this(userId, clientId, CALL_STATE);
+      this.event = event;
+    }
+
     /**
      * Instantiates a new user call proxy.
      *
@@ -643,6 +468,7 @@ public class CometdWebConferencingService implements Startable {
       out.writeUTF(userId);
       out.writeUTF(clientId);
       out.writeObject(state);
+      out.writeObject(event);
     }
 
     /**
@@ -653,6 +479,7 @@ public class CometdWebConferencingService implements Startable {
       this.userId = in.readUTF();
       this.clientId = in.readUTF();
       this.state = (EventProxy) in.readObject();
+      this.event = (CallEvent) in.readObject();
     }
 
     /**
@@ -682,6 +509,15 @@ public class CometdWebConferencingService implements Startable {
       return state;
     }
 
+    /**
+     * Gets the call event.
+     *
+     * @return the call event or <code>null</code> if it's initial or closing state
+     */
+    CallEvent getEvent() {
+      return event;
+    }
+
     /**
      * Sets the state.
      *
@@ -1085,35 +921,23 @@ public class CometdWebConferencingService implements Startable {
                 userChannelContext.computeIfAbsent(userId, k -> {
                   // TODO exoClientId better use in addClient()
                   UserCallListener listener = new UserCallListener(userId, exoClientId) {
+                    @Override
+                    public void onCallEvent(CallEvent event) {
+                      // Event JSON built once for all its recipients
+                      bayeux.getChannel(channelId).publish(serverSession, event.toJSON());
+                      if (LOG.isDebugEnabled()) {
+                        LOG.debug(">>> Sent " + event.getType() + " to " + channelId + " call: " + event.getCallId() + " by "
+                            + currentUserId(null));
+                      }
+                    }
+
                     @Override
                     public void onPartLeaved(String callId,
                                              String providerType,
                                              String ownerId,
                                              String ownerType,
                                              String partId) {
-                      StringBuilder data = new StringBuilder();
-                      data.append('{');
-                      data.append("\"eventType\": \"");
-                      data.append(EVENT_CALL_LEAVED);
-                      data.append("\",");
-                      data.append("\"callId\": \"");
-                      data.append(callId);
-                      data.append("\",\"providerType\": \"");
-                      data.append(providerType);
-                      data.append("\",\"part\": {");
-                      data.append("\"id\": \"");
-                      data.append(partId);
-                      data.append("\"},\"owner\": {");
-                      data.append("\"id\": \"");
-                      data.append(ownerId);
-                      data.append("\",\"type\": \"");
-                      data.append(ownerType);
-                      data.append("\"}");
-                      data.append('}');
-                      bayeux.getChannel(channelId).publish(serverSession, data.toString());
-                      if (LOG.isDebugEnabled()) {
-                        LOG.debug(">>> Sent call leaved to " + channelId + " call: " + callId + "[" + partId + "] by " + currentUserId(null));
-                      }
+                      onCallEvent(CallEvent.partLeaved(callId, providerType, ownerId, ownerType, partId));
                     }
 
                     @Override
@@ -1122,29 +946,17 @@ public class CometdWebConferencingService implements Startable {
                                              String ownerId,
                                              String ownerType,
                                              String partId) {
-                      StringBuilder data = new StringBuilder();
-                      data.append('{');
-                      data.append("\"eventType\": \"");
-                      data.append(EVENT_CALL_JOINED);
-                      data.append("\",");
-                      data.append("\"callId\": \"");
-                      data.append(callId);
-                      data.append("\",\"providerType\": \"");
-                      data.append(providerType);
-                      data.append("\",\"part\": {");
-                      data.append("\"id\": \"");
-                      data.append(partId);
-                      data.append("\"},\"owner\": {");
-                      data.append("\"id\": \"");
-                      data.append(ownerId);
-                      data.append("\",\"type\": \"");
-                      data.append(ownerType);
-                      data.append("\"}");
-                      data.append('}');
-                      bayeux.getChannel(channelId).publish(serverSession, data.toString());
-                      if (LOG.isDebugEnabled()) {
-                        LOG.debug(">>> Sent call joined to " + channelId + " call: " + callId + "[" + partId + "] by " + currentUserId(null));
-                      }
+                      onCallEvent(CallEvent.partJoined(callId, providerType, ownerId, ownerType, partId));
+                    }
+
+                    @Override
+                    public void onRosterChanged(String callId,
+                                                String providerType,
+                                                String ownerId,
+                                                String ownerType,
+                                                String[] joined,
+                                                String[] leaved) {
+                      onCallEvent(CallEvent.rosterChanged(callId, providerType, ownerId, ownerType, joined, leaved));
                     }
 
                     @Override
@@ -1153,28 +965,7 @@ public class CometdWebConferencingService implements Startable {
                                                    String callState,
                                                    String ownerId,
                                                    String ownerType) {
-                      StringBuilder data = new StringBuilder();
-                      data.append('{');
-                      data.append("\"eventType\": \"");
-                      data.append(EVENT_CALL_STATE);
-                      data.append("\",");
-                      data.append("\"callId\": \"");
-                      data.append(callId);
-                      data.append("\",\"providerType\": \"");
-                      data.append(providerType);
-                      data.append("\",\"callState\": \"");
-                      data.append(callState);
-                      data.append("\",\"owner\": {");
-                      data.append("\"id\": \"");
-                      data.append(ownerId);
-                      data.append("\",\"type\": \"");
-                      data.append(ownerType);
-                      data.append("\"}");
-                      data.append('}');
-                      bayeux.getChannel(channelId).publish(serverSession, data.toString());
-                      if (LOG.isDebugEnabled()) {
-                        LOG.debug(">>> Sent call state update to " + channelId + " by " + currentUserId(null));
-                      }
+                      onCallEvent(CallEvent.callState(callId, providerType, callState, ownerId, ownerType));
                     }
                   };
                   if (LOG.isDebugEnabled()) {
@@ -1311,6 +1102,69 @@ public class CometdWebConferencingService implements Startable {
       }
     }
 
+    /**
+     * The call listener publishing participant events once to a call channel, then CometD delivers them to
+     * all the channel subscribers (clients of the call participants).
+     */
+    class CallChannelListener extends CallListener {
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onCallEvent(CallEvent event) {
+        publish(event.getCallId(), event.toJSON());
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId) {
+        onCallEvent(CallEvent.partJoined(callId, providerType, ownerId, ownerType, partId));
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
+        onCallEvent(CallEvent.partLeaved(callId, providerType, ownerId, ownerType, partId));
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public void onRosterChanged(String callId,
+                                  String providerType,
+                                  String ownerId,
+                                  String ownerType,
+                                  String[] joined,
+                                  String[] leaved) {
+        onCallEvent(CallEvent.rosterChanged(callId, providerType, ownerId, ownerType, joined, leaved));
+      }
+
+      /**
+       * Publish the data to the call channel if it exists (has subscribers).
+       *
+       * @param callId the call id
+       * @param data the data
+       */
+      void publish(String callId, String data) {
+        String channelId = new StringBuilder(CALL_SUBSCRIPTION_CHANNEL_NAME).append('/').append(callId).toString();
+        ServerChannel channel = bayeux.getChannel(channelId);
+        if (channel != null) {
+          channel.publish(serverSession, data);
+          if (LOG.isDebugEnabled()) {
+            LOG.debug(">>> Sent call participants update to " + channelId);
+          }
+        } else if (LOG.isDebugEnabled()) {
+          LOG.debug(">>> Call channel not found to send participants update: " + channelId);
+        }
+      }
+    }
+
     /**
      * The listener interface for receiving client channel events.
      *
@@ -1450,40 +1304,43 @@ public class CometdWebConferencingService implements Startable {
          * {@inheritDoc}
          */
         @Override
-        public void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
-          UserCallProxy proxy = new UserCallProxy(userId,
-                                                  clientId,
-                                                  new CallParticipantEvent(EVENT_CALL_LEAVED,
-                                                                           callId,
-                                                                           providerType,
-                                                                           ownerId,
-                                                                           ownerType,
-                                                                           partId));
+        public void onCallEvent(CallEvent event) {
+          // Event instance shared by all recipients, only the proxy is per client
+          UserCallProxy proxy = new UserCallProxy(userId, clientId, event);
           usersCache.put(proxy.getId(), proxy);
           if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call participant leaved for " + callId + "[" + partId + "] to " + cacheId + " by "
+            LOG.debug(">> Cached " + event.getType() + " for " + event.getCallId() + " to " + cacheId + " by "
                 + currentUserId(null));
           }
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onPartLeaved(String callId, String providerType, String ownerId, String ownerType, String partId) {
+          onCallEvent(CallEvent.partLeaved(callId, providerType, ownerId, ownerType, partId));
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public void onPartJoined(String callId, String providerType, String ownerId, String ownerType, String partId) {
-          UserCallProxy proxy = new UserCallProxy(userId,
-                                                  clientId,
-                                                  new CallParticipantEvent(EVENT_CALL_JOINED,
-                                                                           callId,
-                                                                           providerType,
-                                                                           ownerId,
-                                                                           ownerType,
-                                                                           partId));
-          usersCache.put(proxy.getId(), proxy);
-          if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call participant joined for " + callId + "[" + partId + "] to " + cacheId + " by "
-                + currentUserId(null));
-          }
+          onCallEvent(CallEvent.partJoined(callId, providerType, ownerId, ownerType, partId));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onRosterChanged(String callId,
+                                    String providerType,
+                                    String ownerId,
+                                    String ownerType,
+                                    String[] joined,
+                                    String[] leaved) {
+          onCallEvent(CallEvent.rosterChanged(callId, providerType, ownerId, ownerType, joined, leaved));
         }
 
         /**
@@ -1491,13 +1348,7 @@ public class CometdWebConferencingService implements Startable {
          */
         @Override
         public void onCallStateChanged(String callId, String providerType, String callState, String ownerId, String ownerType) {
-          UserCallProxy proxy = new UserCallProxy(userId,
-                                                  clientId,
-                                                  new CallStateEvent(callId, providerType, ownerId, ownerType, callState));
-          usersCache.put(proxy.getId(), proxy);
-          if (LOG.isDebugEnabled()) {
-            LOG.debug(">> Cached call state update for " + callId + " to " + cacheId + " by " + currentUserId(null));
-          }
+          onCallEvent(CallEvent.callState(callId, providerType, callState, ownerId, ownerType));
         }
       }
 
@@ -1594,40 +1445,11 @@ public class CometdWebConferencingService implements Startable {
                 LOG.debug("> Received call event from user listener stub for " + key + " event:" + event.getType() + " by "
                     + currentUserId(null));
               }
-              switch (event.getType()) {
-              case EVENT_CALL_JOINED: {
-                CallParticipantEvent partEvent = CallParticipantEvent.class.cast(event);
-                userContext.getListener()
-                           .onPartJoined(partEvent.getCallId(),
-                                         partEvent.getProviderType(),
-                                         partEvent.getOwnerId(),
-                                         partEvent.getOwnerType(),
-                                         partEvent.getPartId());
-                break;
-              }
-              case EVENT_CALL_LEAVED: {
-                CallParticipantEvent partEvent = CallParticipantEvent.class.cast(event);
-                userContext.getListener()
-                           .onPartLeaved(partEvent.getCallId(),
-                                         partEvent.getProviderType(),
-                                         partEvent.getOwnerId(),
-                                         partEvent.getOwnerType(),
-                                         partEvent.getPartId());
-                break;
-              }
-              case EVENT_CALL_STATE: {
-                CallStateEvent stateEvent = CallStateEvent.class.cast(event);
-                userContext.getListener()
-                           .onCallStateChanged(stateEvent.getCallId(),
-                                               stateEvent.getProviderType(),
-                                               stateEvent.getState(),
-                                               stateEvent.getOwnerId(),
-                                               stateEvent.getOwnerType());
-                break;
-              }
-              default:
+              CallEvent callEvent = obj.getEvent();
+              if (callEvent != null) {
+                userContext.getListener().onCallEvent(callEvent);
+              } else {
                 LOG.warn("Unexpected call state in cache " + event.getType() + " for " + key + " by " + currentUserId(null));
-                break;
               }
             } // ignore otherwise - it's an event for others
           }
@@ -1672,6 +1494,9 @@ public class CometdWebConferencingService implements Startable {
     /** The channel listener. */
     private final ClientChannelListener           channelListener      = new ClientChannelListener();
 
+    /** The call listener publishing participant events to call channels, used only when enabled. */
+    private final CallChannelListener             callListener         = new CallChannelListener();
+
     /**
      * Post construct.
      */
@@ -1681,6 +1506,10 @@ public class CometdWebConferencingService implements Startable {
       if (usersCache != null) {
         usersCache.addCacheListener(usersCacheListener);
       }
+      if (callChannelEvents) {
+        // Without call listeners participant events go to user listeners of each participant
+        webConferencing.addCallListener(callListener);
+      }
     }
 
     /**
@@ -1695,6 +1524,7 @@ public class CometdWebConferencingService implements Startable {
         usersCacheListener.stop();
       }
       bayeux.removeListener(channelListener);
+      webConferencing.removeCallListener(callListener);
       for (UserChannelContext context : userChannelContext.values()) {
         webConferencing.removeUserCallListener(context.getListener());
       }
@@ -2198,13 +2028,15 @@ public class CometdWebConferencingService implements Startable {
    * @param exoBayeux the exo bayeux
    * @param cacheService the cache service
    * @param callLogs the call logs
+   * @param params the init params (optional)
    */
   public CometdWebConferencingService(IdentityRegistry identityRegistry,
                                       OrganizationService organization,
                                       WebConferencingService webConferencing,
                                       EXoContinuationBayeux exoBayeux,
                                       CacheService cacheService,
-                                      CallLogService callLogs) {
+                                      CallLogService callLogs,
+                                      InitParams params) {
     this.identityRegistry = identityRegistry;
     this.organization = organization;
     this.webConferencing = webConferencing;
@@ -2212,6 +2044,9 @@ public class CometdWebConferencingService implements Startable {
     this.callLogs = callLogs;
     this.usersCache = ExoContainer.hasProfile("cluster") ? cacheService.getCacheInstance(USER_CACHE_NAME) : null;
     this.service = new CallService();
+    PropertiesParam callChannelParam = params != null ? params.getPropertiesParam(CALL_CHANNEL_PROPERTIES) : null;
+    this.callChannelEvents = callChannelParam != null
+        && Boolean.parseBoolean(callChannelParam.getProperty(CALL_CHANNEL_EVENTS_ENABLED));
 
     // Thread executors
     this.callHandlers = createThreadExecutor(CALL_THREAD_PREFIX, CALL_MAX_FACTOR, CALL_QUEUE_FACTOR);
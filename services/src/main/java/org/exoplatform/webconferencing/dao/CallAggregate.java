@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.dao;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.exoplatform.webconferencing.domain.CallEntity;
+import org.exoplatform.webconferencing.domain.InviteEntity;
+import org.exoplatform.webconferencing.domain.OriginEntity;
+import org.exoplatform.webconferencing.domain.ParticipantEntity;
+
+/**
+ * A call entity with all its child rows (participants, origins and invites) read together by
+ * {@link CallDAO#findCallAggregate(String)}. Origins and invites are detached copies and should not be
+ * used for updates.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallAggregate.java 00000 Oct 16, 2026 $
+ */
+public class CallAggregate {
+
+  /** The call. */
+  private final CallEntity              call;
+
+  /** The participants. */
+  private final List<ParticipantEntity> participants;
+
+  /** The origins. */
+  private final List<OriginEntity>      origins;
+
+  /** The invites. */
+  private final List<InviteEntity>      invites;
+
+  /**
+   * Instantiates a new call aggregate.
+   *
+   * @param call the call
+   * @param participants the participants
+   * @param origins the origins
+   * @param invites the invites
+   */
+  public CallAggregate(CallEntity call,
+                       List<ParticipantEntity> participants,
+                       List<OriginEntity> origins,
+                       List<InviteEntity> invites) {
+    this.call = call;
+    this.participants = Collections.unmodifiableList(participants);
+    this.origins = Collections.unmodifiableList(origins);
+    this.invites = Collections.unmodifiableList(invites);
+  }
+
+  /**
+   * Gets the call.
+   *
+   * @return the call
+   */
+  public CallEntity getCall() {
+    return call;
+  }
+
+  /**
+   * Gets the participants.
+   *
+   * @return the participants
+   */
+  public List<ParticipantEntity> getParticipants() {
+    return participants;
+  }
+
+  /**
+   * Gets the origins.
+   *
+   * @return the origins
+   */
+  public List<OriginEntity> getOrigins() {
+    return origins;
+  }
+
+  /**
+   * Gets the invites.
+   *
+   * @return the invites
+   */
+  public List<InviteEntity> getInvites() {
+    return invites;
+  }
+}
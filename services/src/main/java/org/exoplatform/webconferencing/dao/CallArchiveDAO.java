@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+
+import org.exoplatform.commons.persistence.impl.GenericDAOJPAImpl;
+import org.exoplatform.webconferencing.domain.ArchivedCallEntity;
+import org.exoplatform.webconferencing.domain.ArchivedOriginEntity;
+import org.exoplatform.webconferencing.domain.ArchivedParticipantEntity;
+
+/**
+ * Storage of archived calls with their participants and origins. Archived calls are only created and read.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallArchiveDAO.java 00000 Oct 16, 2026 $
+ */
+public class CallArchiveDAO extends GenericDAOJPAImpl<ArchivedCallEntity, String> {
+
+  /**
+   * Instantiates a new call archive DAO.
+   */
+  public CallArchiveDAO() {
+  }
+
+  /**
+   * Find archived calls of given owner, most recent first.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @param offset the offset
+   * @param limit the limit
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<ArchivedCallEntity> findOwnerCalls(String ownerId, String ownerType, int offset, int limit) throws PersistenceException,
+                                                                                                          IllegalStateException,
+                                                                                                          IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCallArchive.findOwnerCalls", ArchivedCallEntity.class)
+                             .setParameter("ownerId", ownerId)
+                             .setParameter("ownerType", ownerType)
+                             .setFirstResult(offset)
+                             .setMaxResults(limit)
+                             .getResultList();
+  }
+
+  /**
+   * Find archived calls where given user participated, most recent first.
+   *
+   * @param userId the user id
+   * @param offset the offset
+   * @param limit the limit
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<ArchivedCallEntity> findUserCalls(String userId, int offset, int limit) throws PersistenceException,
+                                                                                      IllegalStateException,
+                                                                                      IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCallArchive.findUserCalls", ArchivedCallEntity.class)
+                             .setParameter("userId", userId)
+                             .setFirstResult(offset)
+                             .setMaxResults(limit)
+                             .getResultList();
+  }
+
+  /**
+   * Find participants of archived calls with given archive IDs.
+   *
+   * @param archiveIds the archive IDs
+   * @return the list, it will be empty if no participants found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<ArchivedParticipantEntity> findCallsParts(Collection<String> archiveIds) throws PersistenceException,
+                                                                                       IllegalStateException,
+                                                                                       IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfParticipantArchive.findCallsParts", ArchivedParticipantEntity.class)
+                             .setParameter("archiveIds", archiveIds)
+                             .getResultList();
+  }
+
+  /**
+   * Save participants of archived calls. They will be written in a single flush.
+   *
+   * @param parts the participants
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public void createParts(List<ArchivedParticipantEntity> parts) throws PersistenceException,
+                                                                 IllegalStateException,
+                                                                 IllegalArgumentException {
+    EntityManager em = getEntityManager();
+    for (ArchivedParticipantEntity p : parts) {
+      em.persist(p);
+    }
+  }
+
+  /**
+   * Save origins of archived calls. They will be written in a single flush.
+   *
+   * @param origins the origins
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public void createOrigins(List<ArchivedOriginEntity> origins) throws PersistenceException,
+                                                                IllegalStateException,
+                                                                IllegalArgumentException {
+    EntityManager em = getEntityManager();
+    for (ArchivedOriginEntity o : origins) {
+      em.persist(o);
+    }
+  }
+
+  /**
+   * Clear the storage.
+   */
+  public void clear() {
+    getEntityManager().clear();
+  }
+}
@@ -23,15 +23,22 @@ import static org.exoplatform.webconferencing.WebConferencingService.OWNER_TYPE_
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import javax.persistence.LockModeType;
 import javax.persistence.NoResultException;
 import javax.persistence.PersistenceException;
 import javax.persistence.TypedQuery;
 
 import org.exoplatform.commons.persistence.impl.GenericDAOJPAImpl;
+import org.exoplatform.webconferencing.CallState;
 import org.exoplatform.webconferencing.domain.CallEntity;
+import org.exoplatform.webconferencing.domain.InviteEntity;
+import org.exoplatform.webconferencing.domain.OriginEntity;
+import org.exoplatform.webconferencing.domain.ParticipantEntity;
 
 /**
  * Created by The eXo Platform SAS.
@@ -42,7 +49,18 @@ import org.exoplatform.webconferencing.domain.CallEntity;
 public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
 
   /** The Constant USER_CALL_DAYS_LIVETIME. */
-  public static final int USER_CALL_DAYS_LIVETIME = 2;
+  public static final int       USER_CALL_DAYS_LIVETIME = 2;
+
+  /**
+   * Native query reading origins and invites of a call in a single round trip. First column is a row kind:
+   * <code>O</code> for origin (ID, type, state) and <code>I</code> for invite (identity, identity type,
+   * invitation ID).
+   */
+  protected static final String CALL_CHILDREN_QUERY     =
+                                                  "SELECT 'O' AS KIND, o.ID AS ID, o.TYPE AS TYPE, o.STATE AS VAL FROM WBC_ORIGINS o WHERE o.CALL_ID = ?1 "
+                                                      + "UNION ALL "
+                                                      + "SELECT 'I' AS KIND, i.IDENTITY AS ID, i.IDENTITY_TYPE AS TYPE, i.INVITATION_ID AS VAL FROM WBC_INVITES i WHERE i.CALL_ID = ?1 "
+                                                      + "ORDER BY KIND, TYPE, ID";
 
   /**
    * Instantiates a new call DAO.
@@ -50,6 +68,36 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
   public CallDAO() {
   }
 
+  /**
+   * Find a call by ID and lock its row for update until the end of current transaction.
+   *
+   * @param id the call id
+   * @return the call entity or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallEntity findForUpdate(String id) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().find(CallEntity.class, id, LockModeType.PESSIMISTIC_WRITE);
+  }
+
+  /**
+   * Find call ID and state by the call ID. Only the ID and state columns will be read, not the whole call
+   * entity.
+   *
+   * @param id the call id
+   * @return the call state or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallState findCallState(String id) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    List<Object[]> res = getEntityManager().createNamedQuery("WebConfCall.findCallState", Object[].class)
+                                           .setParameter("callId", id)
+                                           .getResultList();
+    return res.isEmpty() ? null : callState(res.get(0));
+  }
+
   /**
    * Find group call by owner id.
    *
@@ -120,6 +168,122 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
     }
   }
 
+  /**
+   * Find group call ID and state by owner id. Only the ID and state columns will be read, not the whole
+   * call entity.
+   *
+   * @param ownerId the owner id
+   * @return the call state or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallState findGroupCallStateByOwnerId(String ownerId) throws PersistenceException,
+                                                               IllegalStateException,
+                                                               IllegalArgumentException {
+    TypedQuery<Object[]> query = getEntityManager().createNamedQuery("WebConfCall.findGroupCallStateByOwnerId", Object[].class)
+                                                   .setParameter("ownerId", ownerId);
+
+    try {
+      return callState(query.getSingleResult());
+    } catch (NoResultException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Find group call ID and state by owner type and id. Only the ID and state columns will be read, not the
+   * whole call entity.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @return the call state or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallState findGroupCallStateByOwnerTypeId(String ownerId, String ownerType) throws PersistenceException,
+                                                                                     IllegalStateException,
+                                                                                     IllegalArgumentException {
+    TypedQuery<Object[]> query = getEntityManager().createNamedQuery("WebConfCall.findGroupCallStateByOwnerTypeId",
+                                                                     Object[].class)
+                                                   .setParameter("ownerId", ownerId)
+                                                   .setParameter("ownerType", ownerType);
+
+    try {
+      return callState(query.getSingleResult());
+    } catch (NoResultException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Find ID and state of a last (by last date) group call of given owner type and id. Only the ID and state
+   * columns will be read, not the whole call entity.
+   *
+   * @param ownerId the owner id
+   * @param ownerType the owner type
+   * @return the call state or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallState findLastGroupCallStateByOwnerTypeId(String ownerId, String ownerType) throws PersistenceException,
+                                                                                         IllegalStateException,
+                                                                                         IllegalArgumentException {
+    List<Object[]> res = getEntityManager().createNamedQuery("WebConfCall.findLastGroupCallStateByOwnerTypeId",
+                                                             Object[].class)
+                                           .setParameter("ownerId", ownerId)
+                                           .setParameter("ownerType", ownerType)
+                                           .setMaxResults(1)
+                                           .getResultList();
+    return res.isEmpty() ? null : callState(res.get(0));
+  }
+
+  /**
+   * Find a call with all its participants, origins and invites. It takes two round trips to the database:
+   * the call joined with its participants, then origins together with invites.
+   *
+   * @param id the call id
+   * @return the call aggregate or <code>null</code> if no call found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public CallAggregate findCallAggregate(String id) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    List<Object[]> callRows = getEntityManager().createNamedQuery("WebConfCall.findCallWithParts", Object[].class)
+                                                .setParameter("callId", id)
+                                                .getResultList();
+    if (callRows.isEmpty()) {
+      return null;
+    }
+    CallEntity call = (CallEntity) callRows.get(0)[0];
+    List<ParticipantEntity> participants = new ArrayList<>(callRows.size());
+    for (Object[] row : callRows) {
+      if (row[1] != null) {
+        participants.add((ParticipantEntity) row[1]);
+      }
+    }
+    @SuppressWarnings("unchecked")
+    List<Object[]> childRows = getEntityManager().createNativeQuery(CALL_CHILDREN_QUERY).setParameter(1, id).getResultList();
+    List<OriginEntity> origins = new ArrayList<>();
+    List<InviteEntity> invites = new ArrayList<>();
+    for (Object[] row : childRows) {
+      String kind = String.valueOf(row[0]).trim();
+      if ("O".equals(kind)) {
+        OriginEntity origin = new OriginEntity();
+        origin.setId((String) row[1]);
+        origin.setCallId(id);
+        origin.setType((String) row[2]);
+        origin.setState((String) row[3]);
+        origins.add(origin);
+      } else {
+        invites.add(new InviteEntity(id, (String) row[1], (String) row[2], (String) row[3]));
+      }
+    }
+    return new CallAggregate(call, participants, origins, invites);
+  }
+
   /**
    * Find user group calls.
    *
@@ -142,6 +306,138 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
     }
   }
 
+  /**
+   * Find ID and state of calls where given user participates. Only the ID and state columns will be read,
+   * not the whole call entities.
+   *
+   * @param userId the user id
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<CallState> findUserCallStates(String userId) throws PersistenceException,
+                                                           IllegalStateException,
+                                                           IllegalArgumentException {
+    List<Object[]> res = getEntityManager().createNamedQuery("WebConfCall.findUserCallStates", Object[].class)
+                                           .setParameter("userId", userId)
+                                           .getResultList();
+    List<CallState> states = new ArrayList<>(res.size());
+    for (Object[] row : res) {
+      states.add(callState(row));
+    }
+    return states;
+  }
+
+  /**
+   * Find IDs of calls of given owner type older of {@value #USER_CALL_DAYS_LIVETIME} days, oldest first.
+   *
+   * @param ownerType the owner type
+   * @param maxResults the max number of IDs to return
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findOwnerOlderCallIds(String ownerType, int maxResults) throws PersistenceException,
+                                                                              IllegalStateException,
+                                                                              IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findOwnerOlderCallIds", String.class)
+                             .setParameter("ownerType", ownerType)
+                             .setParameter("expiredDate", expiredDate())
+                             .setMaxResults(maxResults)
+                             .getResultList();
+  }
+
+  /**
+   * Find IDs of group calls in given state and older of {@value #USER_CALL_DAYS_LIVETIME} days, oldest
+   * first.
+   *
+   * @param state the call state
+   * @param maxResults the max number of IDs to return
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findOlderGroupCallIds(String state, int maxResults) throws PersistenceException,
+                                                                          IllegalStateException,
+                                                                          IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findOlderGroupCallIdsByState", String.class)
+                             .setParameter("state", state)
+                             .setParameter("expiredDate", expiredDate())
+                             .setMaxResults(maxResults)
+                             .getResultList();
+  }
+
+  /**
+   * Find IDs of group calls in given state and last started more than given number of days ago, oldest
+   * first.
+   *
+   * @param state the call state
+   * @param days the number of days
+   * @param maxResults the max number of IDs to return
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findOlderGroupCallIds(String state, int days, int maxResults) throws PersistenceException,
+                                                                                    IllegalStateException,
+                                                                                    IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findOlderGroupCallIdsByState", String.class)
+                             .setParameter("state", state)
+                             .setParameter("expiredDate", olderDate(days))
+                             .setMaxResults(maxResults)
+                             .getResultList();
+  }
+
+  /**
+   * Find calls with given IDs.
+   *
+   * @param ids the call IDs
+   * @return the list, it will be empty if no calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<CallEntity> findCalls(Collection<String> ids) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findCallsById", CallEntity.class).setParameter("ids", ids).getResultList();
+  }
+
+  /**
+   * Update state of calls with given IDs in a bulk statement.
+   *
+   * @param ids the call IDs
+   * @param state the new state
+   * @return the number of updated calls
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int updateCallsState(Collection<String> ids, String state) throws PersistenceException,
+                                                                    IllegalStateException,
+                                                                    IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.updateCallsState")
+                             .setParameter("ids", ids)
+                             .setParameter("state", state)
+                             .executeUpdate();
+  }
+
+  /**
+   * Delete calls with given IDs in a bulk statement. Participants, origins and invites should be deleted
+   * explicitly before: the database cascade will not be visible for the second-level cache.
+   *
+   * @param ids the call IDs
+   * @return the number of deleted calls
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCalls(Collection<String> ids) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.deleteCalls").setParameter("ids", ids).executeUpdate();
+  }
+
   /**
    * Delete all users calls older of {@value #USER_CALL_DAYS_LIVETIME} days.
    *
@@ -151,13 +447,42 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
    * @throws IllegalArgumentException the illegal argument exception
    */
   public int deleteAllUsersCalls() throws PersistenceException, IllegalStateException, IllegalArgumentException {
-    LocalDateTime expired = LocalDate.now().atStartOfDay().minusDays(USER_CALL_DAYS_LIVETIME);
+    Timestamp expiredDate = expiredDate();
+    // Delete children explicitly to let the second-level cache know about it (the database cascade isn't visible for it)
+    getEntityManager().createNamedQuery("WebConfCall.deleteOwnerOlderCallsParts")
+                      .setParameter("ownerType", OWNER_TYPE_USER)
+                      .setParameter("expiredDate", expiredDate)
+                      .executeUpdate();
+    getEntityManager().createNamedQuery("WebConfOrigin.deleteOwnerOlderCallsOrigins")
+                      .setParameter("ownerType", OWNER_TYPE_USER)
+                      .setParameter("expiredDate", expiredDate)
+                      .executeUpdate();
     return getEntityManager().createNamedQuery("WebConfCall.deleteOwnerOlderCalls")
                              .setParameter("ownerType", OWNER_TYPE_USER)
-                             .setParameter("expiredDate", Timestamp.valueOf(expired))
+                             .setParameter("expiredDate", expiredDate)
                              .executeUpdate();
   }
 
+  /**
+   * Date before which calls are treated as expired, it's {@value #USER_CALL_DAYS_LIVETIME} days from now.
+   *
+   * @return the timestamp
+   */
+  protected Timestamp expiredDate() {
+    return olderDate(USER_CALL_DAYS_LIVETIME);
+  }
+
+  /**
+   * Start of the day given number of days ago.
+   *
+   * @param days the number of days
+   * @return the timestamp
+   */
+  protected Timestamp olderDate(int days) {
+    LocalDateTime older = LocalDate.now().atStartOfDay().minusDays(days);
+    return Timestamp.valueOf(older);
+  }
+
   /**
    * Clear the storage.
    */
@@ -165,4 +490,21 @@ public class CallDAO extends GenericDAOJPAImpl<CallEntity, String> {
     getEntityManager().clear();
   }
 
+  /**
+   * Flush the storage changes to the database.
+   */
+  public void flush() {
+    getEntityManager().flush();
+  }
+
+  /**
+   * Build call state from a projection row of ID and state.
+   *
+   * @param row the row
+   * @return the call state
+   */
+  protected CallState callState(Object[] row) {
+    return new CallState((String) row[0], (String) row[1]);
+  }
+
 }
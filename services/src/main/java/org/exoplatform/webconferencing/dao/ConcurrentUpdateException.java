@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.dao;
+
+/**
+ * Concurrent update of a call or its participant: the saved entity has another version than one read
+ * before the update. The operation can be retried with the call read again.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ConcurrentUpdateException.java 00000 Oct 16, 2026 $
+ */
+public class ConcurrentUpdateException extends StorageException {
+
+  /**
+   * 
+   */
+  private static final long serialVersionUID = -6153027462218517290L;
+
+  /**
+   * Instantiates a new concurrent update exception.
+   *
+   * @param message the message
+   */
+  public ConcurrentUpdateException(String message) {
+    super(message);
+  }
+
+  /**
+   * Instantiates a new concurrent update exception.
+   *
+   * @param message the message
+   * @param cause the cause
+   */
+  public ConcurrentUpdateException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+}
@@ -1,5 +1,7 @@
 package org.exoplatform.webconferencing.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -17,6 +19,12 @@ import org.exoplatform.webconferencing.domain.InviteId;
  */
 public class InviteDAO extends GenericDAOJPAImpl<InviteEntity, InviteId> {
 
+  /**
+   * Maximum number of identities in a single bulk delete statement (some databases limit a size of IN
+   * expression).
+   */
+  public static final int BULK_DELETE_SIZE = 500;
+
   /**
    * Find call invites.
    *
@@ -38,6 +46,107 @@ public class InviteDAO extends GenericDAOJPAImpl<InviteEntity, InviteId> {
     }
   }
 
+  /**
+   * Find invitation ID of the call. All invites of a call share the same invitation ID, thus only a single
+   * value will be read.
+   *
+   * @param callId the call id
+   * @return the invitation ID or <code>null</code> if the call has no invites
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public String findCallInvitationId(String callId) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    List<String> ids = getEntityManager().createNamedQuery("WebConfInvite.findCallInvitationId", String.class)
+                                         .setParameter("callId", callId)
+                                         .setMaxResults(1)
+                                         .getResultList();
+    return ids.isEmpty() ? null : ids.get(0);
+  }
+
+  /**
+   * Find call invites with given invitation ID which may grant access to an identity: invites of given
+   * identities and all group invites (group membership should be checked by the caller).
+   *
+   * @param callId the call id
+   * @param invitationId the invitation id
+   * @param identities the identities (e.g. an user and "all users")
+   * @param groupType the group identity type
+   * @return the list, it will be empty if no invites found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<InviteEntity> findIdentityInvites(String callId,
+                                                String invitationId,
+                                                Collection<String> identities,
+                                                String groupType) throws PersistenceException,
+                                                                  IllegalStateException,
+                                                                  IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfInvite.findIdentityInvites", InviteEntity.class)
+                             .setParameter("callId", callId)
+                             .setParameter("invitationId", invitationId)
+                             .setParameter("identities", identities)
+                             .setParameter("groupType", groupType)
+                             .getResultList();
+  }
+
+  /**
+   * Find IDs of calls which don't exist but still have invites.
+   *
+   * @param maxResults the max number of IDs to return
+   * @return the list, it will be empty if no such calls found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findOrphanedCallIds(int maxResults) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfInvite.findOrphanedCallIds", String.class)
+                             .setMaxResults(maxResults)
+                             .getResultList();
+  }
+
+  /**
+   * Delete invites of calls with given IDs in a bulk statement.
+   *
+   * @param callIds the call IDs
+   * @return the number of deleted invites
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallsInvites(Collection<String> callIds) throws PersistenceException,
+                                                            IllegalStateException,
+                                                            IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfInvite.deleteCallsInvites").setParameter("callIds", callIds).executeUpdate();
+  }
+
+  /**
+   * Delete call invites of given identities using bulk statements (by {@value #BULK_DELETE_SIZE} identities
+   * per statement). Note that already loaded invite entities will not be detached by this method.
+   *
+   * @param callId the call id
+   * @param identities the invited identities
+   * @return the number of deleted invites
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallInvites(String callId, Collection<String> identities) throws PersistenceException,
+                                                                            IllegalStateException,
+                                                                            IllegalArgumentException {
+    List<String> allIdentities = new ArrayList<>(identities);
+    int deleted = 0;
+    for (int i = 0; i < allIdentities.size(); i += BULK_DELETE_SIZE) {
+      deleted += getEntityManager().createNamedQuery("WebConfInvite.deleteCallInvitesByIdentity")
+                                   .setParameter("callId", callId)
+                                   .setParameter("identities",
+                                                 allIdentities.subList(i, Math.min(i + BULK_DELETE_SIZE, allIdentities.size())))
+                                   .executeUpdate();
+    }
+    return deleted;
+  }
+
   /**
    * Delete call invites.
    *
@@ -18,6 +18,7 @@
  */
 package org.exoplatform.webconferencing.dao;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -66,6 +67,23 @@ public class OriginDAO extends GenericDAOJPAImpl<OriginEntity, OriginId> {
     }
   }
 
+  /**
+   * Find origins of calls with given IDs.
+   *
+   * @param callIds the call IDs
+   * @return the list, it will be empty if no origins found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<OriginEntity> findCallsOrigins(Collection<String> callIds) throws PersistenceException,
+                                                                         IllegalStateException,
+                                                                         IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfOrigin.findCallsOrigins", OriginEntity.class)
+                             .setParameter("callIds", callIds)
+                             .getResultList();
+  }
+
   /**
    * Delete call's origins.
    *
@@ -75,11 +93,23 @@ public class OriginDAO extends GenericDAOJPAImpl<OriginEntity, OriginId> {
    * @throws IllegalStateException the illegal state exception
    * @throws IllegalArgumentException the illegal argument exception
    */
-  @Deprecated // TODO not used
   public int deleteCallOrigins(String callId) throws PersistenceException, IllegalStateException, IllegalArgumentException {
     return getEntityManager().createNamedQuery("WebConfOrigin.deleteCallOrigins").setParameter("callId", callId).executeUpdate();
   }
 
+  /**
+   * Delete origins of calls with given IDs in a bulk statement.
+   *
+   * @param callIds the call IDs
+   * @return the number of deleted origins
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallsOrigins(Collection<String> callIds) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfOrigin.deleteCallsOrigins").setParameter("callIds", callIds).executeUpdate();
+  }
+
   /**
    * Clear the storage.
    */
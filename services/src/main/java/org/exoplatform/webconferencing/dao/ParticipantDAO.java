@@ -18,6 +18,8 @@
  */
 package org.exoplatform.webconferencing.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,6 +39,12 @@ import org.exoplatform.webconferencing.domain.ParticipantId;
  */
 public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, ParticipantId> {
 
+  /**
+   * Maximum number of IDs in a single bulk delete statement (some databases limit a size of IN
+   * expression).
+   */
+  public static final int BULK_DELETE_SIZE = 500;
+
   /**
    * Instantiates a new participant DAO.
    */
@@ -65,6 +73,95 @@ public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, Partici
     }
   }
 
+  /**
+   * Find participants of calls with given IDs.
+   *
+   * @param callIds the call IDs
+   * @return the list, it will be empty if no participants found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<ParticipantEntity> findCallsParts(Collection<String> callIds) throws PersistenceException,
+                                                                            IllegalStateException,
+                                                                            IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findCallsParts", ParticipantEntity.class)
+                             .setParameter("callIds", callIds)
+                             .getResultList();
+  }
+
+  /**
+   * Find IDs of call participants. Only the ID column will be read, not the whole participant entities.
+   *
+   * @param callId the call id
+   * @return the list, it will be empty if no participants found
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public List<String> findCallPartIds(String callId) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.findCallPartIds", String.class)
+                             .setParameter("callId", callId)
+                             .getResultList();
+  }
+
+  /**
+   * Delete call participants with given IDs using bulk statements (by {@value #BULK_DELETE_SIZE} IDs per
+   * statement). Note that already loaded participant entities will not be detached by this method.
+   *
+   * @param callId the call id
+   * @param ids the participant IDs
+   * @return the number of deleted participants
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallParts(String callId, Collection<String> ids) throws PersistenceException,
+                                                                   IllegalStateException,
+                                                                   IllegalArgumentException {
+    List<String> allIds = new ArrayList<>(ids);
+    int deleted = 0;
+    for (int i = 0; i < allIds.size(); i += BULK_DELETE_SIZE) {
+      deleted += getEntityManager().createNamedQuery("WebConfCall.deleteCallPartsById")
+                                   .setParameter("callId", callId)
+                                   .setParameter("ids", allIds.subList(i, Math.min(i + BULK_DELETE_SIZE, allIds.size())))
+                                   .executeUpdate();
+    }
+    return deleted;
+  }
+
+  /**
+   * Delete participants of given type from calls with given IDs in a bulk statement.
+   *
+   * @param callIds the call IDs
+   * @param type the participant type
+   * @return the number of deleted participants
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallsParts(Collection<String> callIds, String type) throws PersistenceException,
+                                                                       IllegalStateException,
+                                                                       IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.deleteCallsPartsByType")
+                             .setParameter("callIds", callIds)
+                             .setParameter("type", type)
+                             .executeUpdate();
+  }
+
+  /**
+   * Delete participants of calls with given IDs in a bulk statement.
+   *
+   * @param callIds the call IDs
+   * @return the number of deleted participants
+   * @throws PersistenceException the persistence exception
+   * @throws IllegalStateException the illegal state exception
+   * @throws IllegalArgumentException the illegal argument exception
+   */
+  public int deleteCallsParts(Collection<String> callIds) throws PersistenceException, IllegalStateException, IllegalArgumentException {
+    return getEntityManager().createNamedQuery("WebConfCall.deleteCallsParts").setParameter("callIds", callIds).executeUpdate();
+  }
+
   /**
    * Delete call participants.
    *
@@ -74,7 +171,6 @@ public class ParticipantDAO extends GenericDAOJPAImpl<ParticipantEntity, Partici
    * @throws IllegalStateException the illegal state exception
    * @throws IllegalArgumentException the illegal argument exception
    */
-  @Deprecated // TODO not used
   public int deleteCallParts(String callId) throws PersistenceException, IllegalStateException, IllegalArgumentException {
     return getEntityManager().createNamedQuery("WebConfCall.deleteCallParts").setParameter("callId", callId).executeUpdate();
   }
@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.exoplatform.commons.api.persistence.ExoEntity;
+
+/**
+ * Archived call: a copy of a stopped call moved from WBC_CALLS to keep the live table small. The same call
+ * ID may be archived several times (e.g. a space call created again after the archiving), thus archived
+ * calls identified by own archive ID.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ArchivedCallEntity.java 00000 Oct 16, 2026 $
+ */
+@Entity(name = "WebConfCallArchive")
+@ExoEntity
+@Table(name = "WBC_CALLS_ARCHIVE")
+@NamedQueries({
+    @NamedQuery(name = "WebConfCallArchive.findOwnerCalls",
+                query = "SELECT c FROM WebConfCallArchive c WHERE c.ownerId = :ownerId AND c.ownerType = :ownerType ORDER BY c.lastDate DESC"),
+    @NamedQuery(name = "WebConfCallArchive.findUserCalls",
+                query = "SELECT c FROM WebConfCallArchive c, WebConfParticipantArchive p WHERE c.archiveId = p.archiveId AND p.id = :userId ORDER BY c.lastDate DESC") })
+public class ArchivedCallEntity {
+
+  /** The archive id. */
+  @Id
+  @Column(name = "ARCHIVE_ID")
+  protected String  archiveId;
+
+  /** The call id. */
+  @Column(name = "CALL_ID")
+  protected String  callId;
+
+  /** The provider type. */
+  @Column(name = "PROVIDER_TYPE")
+  protected String  providerType;
+
+  /** The owner type. */
+  @Column(name = "OWNER_TYPE")
+  protected String  ownerType;
+
+  /** The owner id. */
+  @Column(name = "OWNER_ID")
+  protected String  ownerId;
+
+  /** The state. */
+  @Column(name = "STATE")
+  protected String  state;
+
+  /** The title. */
+  @Column(name = "TITLE")
+  protected String  title;
+
+  /** The settings. */
+  @Column(name = "SETTINGS")
+  protected String  settings;
+
+  /** The call last (actual) date of call start. */
+  @Column(name = "LAST_DATE")
+  protected Date    lastDate;
+
+  /** The call start date as planned. */
+  @Column(name = "START_DATE")
+  protected Date    startDate;
+
+  /** The call end date as planned. */
+  @Column(name = "END_DATE")
+  protected Date    endDate;
+
+  /** The is group. */
+  @Column(name = "IS_GROUP")
+  protected boolean isGroup;
+
+  /** The is user. */
+  @Column(name = "IS_USER")
+  protected boolean isUser;
+
+  /** The archived date. */
+  @Column(name = "ARCHIVED_DATE")
+  protected Date    archivedDate;
+
+  /**
+   * Instantiates a new archived call entity.
+   */
+  public ArchivedCallEntity() {
+  }
+
+  /**
+   * Instantiates a new archived call entity as a copy of given call.
+   *
+   * @param archiveId the archive id
+   * @param call the call
+   * @param archivedDate the archived date
+   */
+  public ArchivedCallEntity(String archiveId, CallEntity call, Date archivedDate) {
+    this.archiveId = archiveId;
+    this.callId = call.getId();
+    this.providerType = call.getProviderType();
+    this.ownerType = call.getOwnerType();
+    this.ownerId = call.getOwnerId();
+    this.state = call.getState();
+    this.title = call.getTitle();
+    this.settings = call.getSettings();
+    this.lastDate = call.getLastDate();
+    this.startDate = call.getStartDate();
+    this.endDate = call.getEndDate();
+    this.isGroup = call.isGroup();
+    this.isUser = call.isUser();
+    this.archivedDate = archivedDate;
+  }
+
+  /**
+   * Gets the archive id.
+   *
+   * @return the archive id
+   */
+  public String getArchiveId() {
+    return archiveId;
+  }
+
+  /**
+   * Gets the call id.
+   *
+   * @return the call id
+   */
+  public String getCallId() {
+    return callId;
+  }
+
+  /**
+   * Gets the provider type.
+   *
+   * @return the provider type
+   */
+  public String getProviderType() {
+    return providerType;
+  }
+
+  /**
+   * Gets the owner type.
+   *
+   * @return the owner type
+   */
+  public String getOwnerType() {
+    return ownerType;
+  }
+
+  /**
+   * Gets the owner id.
+   *
+   * @return the owner id
+   */
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  /**
+   * Gets the state.
+   *
+   * @return the state
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Gets the title.
+   *
+   * @return the title
+   */
+  public String getTitle() {
+    return title;
+  }
+
+  /**
+   * Gets the settings.
+   *
+   * @return the settings
+   */
+  public String getSettings() {
+    return settings;
+  }
+
+  /**
+   * Gets the last date.
+   *
+   * @return the last date
+   */
+  public Date getLastDate() {
+    return lastDate;
+  }
+
+  /**
+   * Gets the start date.
+   *
+   * @return the start date
+   */
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  /**
+   * Gets the end date.
+   *
+   * @return the end date
+   */
+  public Date getEndDate() {
+    return endDate;
+  }
+
+  /**
+   * Checks if is group.
+   *
+   * @return true, if is group
+   */
+  public boolean isGroup() {
+    return isGroup;
+  }
+
+  /**
+   * Checks if is user.
+   *
+   * @return true, if is user
+   */
+  public boolean isUser() {
+    return isUser;
+  }
+
+  /**
+   * Gets the archived date.
+   *
+   * @return the archived date
+   */
+  public Date getArchivedDate() {
+    return archivedDate;
+  }
+}
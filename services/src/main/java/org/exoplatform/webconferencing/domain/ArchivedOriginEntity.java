@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import org.exoplatform.commons.api.persistence.ExoEntity;
+
+/**
+ * Origin of an archived call.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ArchivedOriginEntity.java 00000 Oct 16, 2026 $
+ */
+@Entity(name = "WebConfOriginArchive")
+@ExoEntity
+@Table(name = "WBC_ORIGINS_ARCHIVE")
+@IdClass(ArchivedOriginId.class)
+public class ArchivedOriginEntity {
+
+  /** The archive id. */
+  @Id
+  @Column(name = "ARCHIVE_ID")
+  protected String archiveId;
+
+  /** The id. */
+  @Id
+  @Column(name = "ID")
+  protected String id;
+
+  /** The type. */
+  @Id
+  @Column(name = "TYPE")
+  protected String type;
+
+  /** The state. */
+  @Column(name = "STATE")
+  protected String state;
+
+  /**
+   * Instantiates a new archived origin entity.
+   */
+  public ArchivedOriginEntity() {
+  }
+
+  /**
+   * Instantiates a new archived origin entity as a copy of given origin.
+   *
+   * @param archiveId the archive id
+   * @param origin the origin
+   */
+  public ArchivedOriginEntity(String archiveId, OriginEntity origin) {
+    this.archiveId = archiveId;
+    this.id = origin.getId();
+    this.type = origin.getType();
+    this.state = origin.getState();
+  }
+
+  /**
+   * Gets the archive id.
+   *
+   * @return the archive id
+   */
+  public String getArchiveId() {
+    return archiveId;
+  }
+
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the type.
+   *
+   * @return the type
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Gets the state.
+   *
+   * @return the state
+   */
+  public String getState() {
+    return state;
+  }
+}
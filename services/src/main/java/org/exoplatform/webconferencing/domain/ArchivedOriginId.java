@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import java.io.Serializable;
+
+/**
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ArchivedOriginId.java 00000 Oct 16, 2026 $
+ */
+public class ArchivedOriginId implements Serializable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = -2260316154915047328L;
+
+  /** The archive id. */
+  protected String          archiveId;
+
+  /** The id. */
+  protected String          id;
+
+  /** The type. */
+  protected String          type;
+
+  /**
+   * Instantiates a new archived origin id.
+   */
+  public ArchivedOriginId() {
+  }
+
+  /**
+   * Instantiates a new archived origin id.
+   *
+   * @param archiveId the archive id
+   * @param id the id
+   * @param type the type
+   */
+  public ArchivedOriginId(String archiveId, String id, String type) {
+    this.archiveId = archiveId;
+    this.id = id;
+    this.type = type;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean equals(Object o) {
+    if (o != null) {
+      if (ArchivedOriginId.class.isAssignableFrom(o.getClass())) {
+        ArchivedOriginId other = ArchivedOriginId.class.cast(o);
+        return archiveId.equals(other.getArchiveId()) && id.equals(other.getId()) && type.equals(other.getType());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public int hashCode() {
+    int prime = 31;
+    int res = 7 + archiveId.hashCode();
+    res = res * prime + id.hashCode();
+    res = res * prime + type.hashCode();
+    return res;
+  }
+
+  /**
+   * Gets the archive id.
+   *
+   * @return the archive id
+   */
+  public String getArchiveId() {
+    return archiveId;
+  }
+
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the type.
+   *
+   * @return the type
+   */
+  public String getType() {
+    return type;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.exoplatform.commons.api.persistence.ExoEntity;
+
+/**
+ * Participant of an archived call. States of participants aren't archived as all of them already left the
+ * stopped call.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ArchivedParticipantEntity.java 00000 Oct 16, 2026 $
+ */
+@Entity(name = "WebConfParticipantArchive")
+@ExoEntity
+@Table(name = "WBC_PARTICIPANTS_ARCHIVE")
+@IdClass(ArchivedParticipantId.class)
+@NamedQueries({
+    @NamedQuery(name = "WebConfParticipantArchive.findCallsParts",
+                query = "SELECT p FROM WebConfParticipantArchive p WHERE p.archiveId IN :archiveIds ORDER BY p.type, p.id") })
+public class ArchivedParticipantEntity {
+
+  /** The archive id. */
+  @Id
+  @Column(name = "ARCHIVE_ID")
+  protected String archiveId;
+
+  /** The id. */
+  @Id
+  @Column(name = "ID")
+  protected String id;
+
+  /** The type. */
+  @Column(name = "TYPE")
+  protected String type;
+
+  /**
+   * Instantiates a new archived participant entity.
+   */
+  public ArchivedParticipantEntity() {
+  }
+
+  /**
+   * Instantiates a new archived participant entity as a copy of given participant.
+   *
+   * @param archiveId the archive id
+   * @param participant the participant
+   */
+  public ArchivedParticipantEntity(String archiveId, ParticipantEntity participant) {
+    this.archiveId = archiveId;
+    this.id = participant.getId();
+    this.type = participant.getType();
+  }
+
+  /**
+   * Gets the archive id.
+   *
+   * @return the archive id
+   */
+  public String getArchiveId() {
+    return archiveId;
+  }
+
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the type.
+   *
+   * @return the type
+   */
+  public String getType() {
+    return type;
+  }
+}
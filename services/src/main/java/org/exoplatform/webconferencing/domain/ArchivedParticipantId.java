@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+import java.io.Serializable;
+
+/**
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: ArchivedParticipantId.java 00000 Oct 16, 2026 $
+ */
+public class ArchivedParticipantId implements Serializable {
+
+  /** The Constant serialVersionUID. */
+  private static final long serialVersionUID = 4821769143076514803L;
+
+  /** The archive id. */
+  protected String          archiveId;
+
+  /** The id. */
+  protected String          id;
+
+  /**
+   * Instantiates a new archived participant id.
+   */
+  public ArchivedParticipantId() {
+  }
+
+  /**
+   * Instantiates a new archived participant id.
+   *
+   * @param archiveId the archive id
+   * @param id the id
+   */
+  public ArchivedParticipantId(String archiveId, String id) {
+    this.archiveId = archiveId;
+    this.id = id;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean equals(Object o) {
+    if (o != null) {
+      if (ArchivedParticipantId.class.isAssignableFrom(o.getClass())) {
+        ArchivedParticipantId other = ArchivedParticipantId.class.cast(o);
+        return archiveId.equals(other.getArchiveId()) && id.equals(other.getId());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public int hashCode() {
+    return (7 + archiveId.hashCode()) * 31 + id.hashCode();
+  }
+
+  /**
+   * Gets the archive id.
+   *
+   * @return the archive id
+   */
+  public String getArchiveId() {
+    return archiveId;
+  }
+
+  /**
+   * Gets the id.
+   *
+   * @return the id
+   */
+  public String getId() {
+    return id;
+  }
+}
@@ -19,15 +19,21 @@
 package org.exoplatform.webconferencing.domain;
 
 import static org.exoplatform.webconferencing.WebConferencingService.OWNER_TYPE_SPACEEVENT;
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHEABLE_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHE_REGION_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.QUERY_CACHE_REGION;
 
 import java.util.Date;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import org.exoplatform.commons.api.persistence.ExoEntity;
 import org.exoplatform.webconferencing.WebConferencingService;
@@ -39,15 +45,40 @@ import org.exoplatform.webconferencing.WebConferencingService;
  * @version $Id: CallEntity.java 00000 Dec 22, 2017 pnedonosko $
  */
 @Entity(name = "WebConfCall")
+@Cacheable
 @ExoEntity
 @Table(name = "WBC_CALLS")
 @NamedQueries({
     @NamedQuery(name = "WebConfCall.findGroupCallByOwnerId", // XXX skip OWNER_TYPE_SPACEEVENT to do get only spaces and user 
-                query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType != '" + OWNER_TYPE_SPACEEVENT + "' AND c.ownerId = :ownerId"),
+                query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType != '" + OWNER_TYPE_SPACEEVENT + "' AND c.ownerId = :ownerId",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
     @NamedQuery(name = "WebConfCall.findGroupCallByOwnerTypeId",
-                query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate"), // TODO order by startDate
+                query = "SELECT c FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }), // TODO order by startDate
+    @NamedQuery(name = "WebConfCall.findGroupCallStateByOwnerId",
+                query = "SELECT c.id, c.state FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType != '" + OWNER_TYPE_SPACEEVENT + "' AND c.ownerId = :ownerId",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfCall.findGroupCallStateByOwnerTypeId",
+                query = "SELECT c.id, c.state FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfCall.findLastGroupCallStateByOwnerTypeId",
+                query = "SELECT c.id, c.state FROM WebConfCall c WHERE c.isGroup = true AND c.ownerType = :ownerType AND c.ownerId = :ownerId ORDER BY c.lastDate DESC",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
     @NamedQuery(name = "WebConfCall.findUserGroupCalls",
                 query = "SELECT c FROM WebConfCall c, WebConfParticipant p WHERE c.id = p.callId AND p.id = :userId ORDER BY c.lastDate"),
+    @NamedQuery(name = "WebConfCall.findUserCallStates",
+                query = "SELECT c.id, c.state FROM WebConfCall c, WebConfParticipant p WHERE c.id = p.callId AND p.id = :userId ORDER BY c.lastDate"),
+    @NamedQuery(name = "WebConfCall.findCallState", query = "SELECT c.id, c.state FROM WebConfCall c WHERE c.id = :callId",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfCall.findCallWithParts",
+                query = "SELECT c, p FROM WebConfCall c LEFT JOIN WebConfParticipant p ON p.callId = c.id WHERE c.id = :callId ORDER BY p.state, p.type"),
+    @NamedQuery(name = "WebConfCall.findOwnerOlderCallIds",
+                query = "SELECT c.id FROM WebConfCall c WHERE c.ownerType = :ownerType AND c.lastDate <= :expiredDate ORDER BY c.lastDate"),
+    @NamedQuery(name = "WebConfCall.findOlderGroupCallIdsByState",
+                query = "SELECT c.id FROM WebConfCall c WHERE c.isGroup = true AND c.state = :state AND c.lastDate <= :expiredDate ORDER BY c.lastDate"),
+    @NamedQuery(name = "WebConfCall.updateCallsState", query = "UPDATE WebConfCall SET state = :state, version = version + 1 WHERE id IN :ids"),
+    @NamedQuery(name = "WebConfCall.findCallsById", query = "SELECT c FROM WebConfCall c WHERE c.id IN :ids"),
+    @NamedQuery(name = "WebConfCall.deleteCalls", query = "DELETE FROM WebConfCall WHERE id IN :ids"),
     @NamedQuery(name = "WebConfCall.deleteOwnerOlderCalls",
                 query = "DELETE FROM WebConfCall WHERE ownerType = :ownerType AND lastDate <= :expiredDate") })
 public class CallEntity {
@@ -101,6 +132,11 @@ public class CallEntity {
   @Column(name = "IS_USER")
   protected boolean isUser;
 
+  /** The version, used for optimistic locking of concurrent updates. */
+  @Version
+  @Column(name = "VERSION")
+  protected long    version;
+
   /**
    * Instantiates a new call entity.
    */
@@ -322,4 +358,22 @@ public class CallEntity {
   public void setIsUser(boolean isUser) {
     this.isUser = isUser;
   }
+
+  /**
+   * Gets the version.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the version.
+   *
+   * @param version the new version
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
 }
@@ -1,11 +1,17 @@
 package org.exoplatform.webconferencing.domain;
 
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHEABLE_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHE_REGION_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.QUERY_CACHE_REGION;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
 import org.exoplatform.commons.api.persistence.ExoEntity;
@@ -14,11 +20,24 @@ import org.exoplatform.commons.api.persistence.ExoEntity;
  * The Class InviteEntity.
  */
 @Entity(name = "WebConfInvite")
+@Cacheable
 @ExoEntity
 @Table(name = "WBC_INVITES")
 @NamedQueries({ 
   @NamedQuery(name = "WebConfInvite.deleteCallInvites", query = "DELETE FROM WebConfInvite WHERE callId = :callId"),
-  @NamedQuery(name = "WebConfInvite.findCallInvites", query = "SELECT i FROM WebConfInvite i WHERE i.callId = :callId ORDER BY i.identity")
+  @NamedQuery(name = "WebConfInvite.deleteCallsInvites", query = "DELETE FROM WebConfInvite WHERE callId IN :callIds"),
+  @NamedQuery(name = "WebConfInvite.deleteCallInvitesByIdentity",
+              query = "DELETE FROM WebConfInvite WHERE callId = :callId AND identity IN :identities"),
+  @NamedQuery(name = "WebConfInvite.findOrphanedCallIds",
+              query = "SELECT DISTINCT i.callId FROM WebConfInvite i WHERE NOT EXISTS (SELECT c.id FROM WebConfCall c WHERE c.id = i.callId)"),
+  @NamedQuery(name = "WebConfInvite.findCallInvites", query = "SELECT i FROM WebConfInvite i WHERE i.callId = :callId ORDER BY i.identity",
+              hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+  @NamedQuery(name = "WebConfInvite.findCallInvitationId", query = "SELECT i.invitatationId FROM WebConfInvite i WHERE i.callId = :callId",
+              hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+  @NamedQuery(name = "WebConfInvite.findIdentityInvites",
+              query = "SELECT i FROM WebConfInvite i WHERE i.callId = :callId AND i.invitatationId = :invitationId"
+                  + " AND (i.identity IN :identities OR i.identityType = :groupType)",
+              hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) })
 })
 @IdClass(InviteId.class)
 public class InviteEntity {
@@ -18,12 +18,18 @@
  */
 package org.exoplatform.webconferencing.domain;
 
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHEABLE_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHE_REGION_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.QUERY_CACHE_REGION;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
 import org.exoplatform.commons.api.persistence.ExoEntity;
@@ -37,13 +43,19 @@ import org.exoplatform.commons.api.persistence.ExoEntity;
  * @version $Id: OriginEntity.java 00000 Dec 18, 2020 pnedonosko $
  */
 @Entity(name = "WebConfOrigin")
+@Cacheable
 @ExoEntity
 @Table(name = "WBC_ORIGINS")
 @IdClass(OriginId.class)
 @NamedQueries({
     @NamedQuery(name = "WebConfOrigin.findCallOrigins",
-                query = "SELECT o FROM WebConfOrigin o WHERE o.callId = :callId AND o.type = :type ORDER BY o.type, o.state"),
-    @NamedQuery(name = "WebConfOrigin.deleteCallOrigins", query = "DELETE FROM WebConfOrigin WHERE callId = :callId") })
+                query = "SELECT o FROM WebConfOrigin o WHERE o.callId = :callId AND o.type = :type ORDER BY o.type, o.state",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfOrigin.findCallsOrigins", query = "SELECT o FROM WebConfOrigin o WHERE o.callId IN :callIds"),
+    @NamedQuery(name = "WebConfOrigin.deleteCallOrigins", query = "DELETE FROM WebConfOrigin WHERE callId = :callId"),
+    @NamedQuery(name = "WebConfOrigin.deleteCallsOrigins", query = "DELETE FROM WebConfOrigin WHERE callId IN :callIds"),
+    @NamedQuery(name = "WebConfOrigin.deleteOwnerOlderCallsOrigins",
+                query = "DELETE FROM WebConfOrigin WHERE callId IN (SELECT c.id FROM WebConfCall c WHERE c.ownerType = :ownerType AND c.lastDate <= :expiredDate)") })
 public class OriginEntity {
 
   /** The id. */
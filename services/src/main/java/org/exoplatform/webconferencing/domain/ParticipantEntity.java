@@ -18,13 +18,20 @@
  */
 package org.exoplatform.webconferencing.domain;
 
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHEABLE_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.CACHE_REGION_HINT;
+import static org.exoplatform.webconferencing.domain.QueryHints.QUERY_CACHE_REGION;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import org.exoplatform.commons.api.persistence.ExoEntity;
 
@@ -35,13 +42,25 @@ import org.exoplatform.commons.api.persistence.ExoEntity;
  * @version $Id: ParticipantEntity.java 00000 Dec 22, 2017 pnedonosko $
  */
 @Entity(name = "WebConfParticipant")
+@Cacheable
 @ExoEntity
 @Table(name = "WBC_PARTICIPANTS")
 @IdClass(ParticipantId.class)
 @NamedQueries({
     @NamedQuery(name = "WebConfCall.findCallParts",
-                query = "SELECT p FROM WebConfParticipant p WHERE p.callId = :callId ORDER BY p.state, p.type"),
-    @NamedQuery(name = "WebConfCall.deleteCallParts", query = "DELETE FROM WebConfParticipant WHERE callId = :callId") })
+                query = "SELECT p FROM WebConfParticipant p WHERE p.callId = :callId ORDER BY p.state, p.type",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfCall.findCallsParts", query = "SELECT p FROM WebConfParticipant p WHERE p.callId IN :callIds"),
+    @NamedQuery(name = "WebConfCall.findCallPartIds", query = "SELECT p.id FROM WebConfParticipant p WHERE p.callId = :callId",
+                hints = { @QueryHint(name = CACHEABLE_HINT, value = "true"), @QueryHint(name = CACHE_REGION_HINT, value = QUERY_CACHE_REGION) }),
+    @NamedQuery(name = "WebConfCall.deleteCallParts", query = "DELETE FROM WebConfParticipant WHERE callId = :callId"),
+    @NamedQuery(name = "WebConfCall.deleteCallsParts", query = "DELETE FROM WebConfParticipant WHERE callId IN :callIds"),
+    @NamedQuery(name = "WebConfCall.deleteOwnerOlderCallsParts",
+                query = "DELETE FROM WebConfParticipant WHERE callId IN (SELECT c.id FROM WebConfCall c WHERE c.ownerType = :ownerType AND c.lastDate <= :expiredDate)"),
+    @NamedQuery(name = "WebConfCall.deleteCallsPartsByType",
+                query = "DELETE FROM WebConfParticipant WHERE callId IN :callIds AND type = :type"),
+    @NamedQuery(name = "WebConfCall.deleteCallPartsById",
+                query = "DELETE FROM WebConfParticipant WHERE callId = :callId AND id IN :ids") })
 public class ParticipantEntity {
 
   /** The id. */
@@ -66,6 +85,11 @@ public class ParticipantEntity {
   @Column(name = "CLIENT_ID")
   protected String clientId;
 
+  /** The version, used for optimistic locking of concurrent updates. */
+  @Version
+  @Column(name = "VERSION")
+  protected long   version;
+
   /**
    * Instantiates a new participant entity.
    */
@@ -162,4 +186,22 @@ public class ParticipantEntity {
     this.clientId = clientId;
   }
 
+  /**
+   * Gets the version.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the version.
+   *
+   * @param version the new version
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.domain;
+
+/**
+ * Query hints shared by named queries of the web conferencing entities.
+ *
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: QueryHints.java 00000 Oct 16, 2026 $
+ */
+public final class QueryHints {
+
+  /**
+   * Query hint to cache the query results in the second-level cache (effective when the query cache
+   * enabled for the platform persistence).
+   */
+  public static final String CACHEABLE_HINT     = "org.hibernate.cacheable";
+
+  /** Query hint to set a cache region of the query results. */
+  public static final String CACHE_REGION_HINT  = "org.hibernate.cacheRegion";
+
+  /** Cache region of calls, participants, origins and invites queries results. */
+  public static final String QUERY_CACHE_REGION = "webconferencing.queries";
+
+  /**
+   * Instantiates a new query hints (not allowed).
+   */
+  private QueryHints() {
+  }
+}
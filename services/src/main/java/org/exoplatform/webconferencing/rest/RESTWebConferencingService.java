@@ -490,7 +490,7 @@ public class RESTWebConferencingService implements ResourceContainer {
             try {
               GroupInfo room = webConferencing.getRoomInfo(roomId, roomTitle, roomMembers.trim().split(";"));
               if (room != null) {
-                if (room.getMembers().containsKey(currentUserName)) {
+                if (room.hasMember(currentUserName)) {
                   return Response.ok().cacheControl(cacheControl).entity(room).build();
                 } else {
                   return Response.status(Status.FORBIDDEN)
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Date;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.exoplatform.webconferencing.CallState;
+import org.exoplatform.webconferencing.UserInfo;
+import org.exoplatform.webconferencing.UserState;
+import org.exoplatform.webconferencing.domain.CallEntity;
+import org.exoplatform.webconferencing.domain.InviteEntity;
+import org.exoplatform.webconferencing.domain.OriginEntity;
+import org.exoplatform.webconferencing.domain.ParticipantEntity;
+
+/**
+ * Query count regression test of the call aggregate loading on embedded H2 database.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallDAOTest.java 00000 Oct 16, 2026 $
+ */
+public class CallDAOTest {
+
+  /** The Constant PERSISTENCE_UNIT. */
+  protected static final String         PERSISTENCE_UNIT = "webconferencing-test";
+
+  /** The Constant CALL_ID. */
+  protected static final String         CALL_ID          = "jitsi-space_event-weekly";
+
+  /** The entity manager factory. */
+  protected static EntityManagerFactory entityManagerFactory;
+
+  /** The statistics. */
+  protected static Statistics           statistics;
+
+  /** The entity manager. */
+  protected EntityManager               entityManager;
+
+  /** The call DAO. */
+  protected CallDAO                     callDAO;
+
+  /**
+   * Start the storage.
+   */
+  @BeforeClass
+  public static void startStorage() {
+    entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT);
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  /**
+   * Stop the storage.
+   */
+  @AfterClass
+  public static void stopStorage() {
+    entityManagerFactory.close();
+  }
+
+  /**
+   * Save a space event call with participants, origins and invites.
+   */
+  @Before
+  public void setUp() {
+    entityManager = entityManagerFactory.createEntityManager();
+    callDAO = new CallDAO() {
+      @Override
+      public EntityManager getEntityManager() {
+        return entityManager;
+      }
+    };
+    entityManager.getTransaction().begin();
+    CallEntity call = new CallEntity();
+    call.setId(CALL_ID);
+    call.setProviderType("jitsi");
+    call.setOwnerId("weekly");
+    call.setOwnerType("space_event");
+    call.setTitle("Weekly meeting");
+    call.setState(CallState.STARTED);
+    call.setLastDate(new Date());
+    call.setIsGroup(true);
+    call.setIsUser(false);
+    entityManager.persist(call);
+    entityManager.persist(participant("john", UserState.JOINED));
+    entityManager.persist(participant("mary", UserState.LEAVED));
+    entityManager.persist(participant("james", null));
+    entityManager.persist(origin("john", "user"));
+    entityManager.persist(origin("marketing", "space"));
+    entityManager.persist(new InviteEntity(CALL_ID, "guest@acme.com", "user", "a1b2c3"));
+    entityManager.persist(new InviteEntity(CALL_ID, "/spaces/marketing", "group", "d4e5f6"));
+    entityManager.getTransaction().commit();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  /**
+   * Remove the saved call.
+   */
+  @After
+  public void tearDown() {
+    entityManager.getTransaction().begin();
+    entityManager.createQuery("DELETE FROM WebConfInvite").executeUpdate();
+    entityManager.createQuery("DELETE FROM WebConfOrigin").executeUpdate();
+    entityManager.createQuery("DELETE FROM WebConfParticipant").executeUpdate();
+    entityManager.createQuery("DELETE FROM WebConfCall").executeUpdate();
+    entityManager.getTransaction().commit();
+    entityManager.close();
+  }
+
+  /**
+   * The call with all its child rows should be read in two queries.
+   */
+  @Test
+  public void testFindCallAggregateInTwoQueries() {
+    CallAggregate aggregate = callDAO.findCallAggregate(CALL_ID);
+    assertEquals("Call aggregate should be read in two queries", 2, statistics.getPrepareStatementCount());
+
+    assertNotNull(aggregate);
+    assertEquals(CALL_ID, aggregate.getCall().getId());
+    assertEquals(3, aggregate.getParticipants().size());
+    assertEquals(2, aggregate.getOrigins().size());
+    assertEquals("space", aggregate.getOrigins().get(0).getType());
+    assertEquals("user", aggregate.getOrigins().get(1).getType());
+    assertEquals(2, aggregate.getInvites().size());
+    assertEquals("group", aggregate.getInvites().get(0).getIdentityType());
+    assertEquals("d4e5f6", aggregate.getInvites().get(0).getInvitationId());
+    assertEquals("user", aggregate.getInvites().get(1).getIdentityType());
+  }
+
+  /**
+   * A call without participants should be read with empty participants.
+   */
+  @Test
+  public void testFindCallAggregateWithoutParts() {
+    entityManager.getTransaction().begin();
+    entityManager.createQuery("DELETE FROM WebConfParticipant").executeUpdate();
+    entityManager.getTransaction().commit();
+    statistics.clear();
+
+    CallAggregate aggregate = callDAO.findCallAggregate(CALL_ID);
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertNotNull(aggregate);
+    assertEquals(0, aggregate.getParticipants().size());
+    assertEquals(2, aggregate.getOrigins().size());
+  }
+
+  /**
+   * Not existing call should cost a single query.
+   */
+  @Test
+  public void testFindCallAggregateNotFound() {
+    assertNull(callDAO.findCallAggregate("jitsi-space_event-unknown"));
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  /**
+   * Create a participant of the call.
+   *
+   * @param id the id
+   * @param state the state
+   * @return the participant entity
+   */
+  protected ParticipantEntity participant(String id, String state) {
+    ParticipantEntity part = new ParticipantEntity();
+    part.setId(id);
+    part.setCallId(CALL_ID);
+    part.setType(UserInfo.TYPE_NAME);
+    part.setState(state);
+    return part;
+  }
+
+  /**
+   * Create an origin of the call.
+   *
+   * @param id the id
+   * @param type the type
+   * @return the origin entity
+   */
+  protected OriginEntity origin(String id, String type) {
+    OriginEntity origin = new OriginEntity();
+    origin.setId(id);
+    origin.setCallId(CALL_ID);
+    origin.setType(type);
+    origin.setState(UserState.JOINED);
+    return origin;
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2003-2026 eXo Platform SAS.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.exoplatform.webconferencing.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import liquibase.Contexts;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Query plan regression suite of the calls storage layout. The schema is created by the Liquibase changelog
+ * on embedded H2 database seeded with {@value #SEED_CALLS} calls (can be changed by
+ * <code>webconferencing.test.seedCalls</code> system property). Hot lookup queries should use the indexes
+ * and stay within {@value #LATENCY_BUDGET} ms.
+ * 
+ * Created by The eXo Platform SAS.
+ *
+ * @version $Id: CallIndexesTest.java 00000 Oct 16, 2026 $
+ */
+public class CallIndexesTest {
+
+  /** The Constant CHANGELOG. */
+  protected static final String CHANGELOG      = "db/changelog/webconferencing.db.changelog-1.0.0.xml";
+
+  /** The Constant DB_DIR, the database kept on disk to not hold the seeded calls in the heap. */
+  protected static final String DB_DIR         = "target/h2-indexes";
+
+  /** The Constant DB_URL. */
+  protected static final String DB_URL         = "jdbc:h2:file:./" + DB_DIR + "/webconferencing";
+
+  /** The Constant SEED_CALLS. */
+  protected static final int    SEED_CALLS     = 1000000;
+
+  /** The Constant LATENCY_BUDGET of a single lookup in milliseconds. */
+  protected static final long   LATENCY_BUDGET = 50;
+
+  /** The Constant LATENCY_RUNS. */
+  protected static final int    LATENCY_RUNS   = 20;
+
+  /** The connection. */
+  protected static Connection   connection;
+
+  /**
+   * Create the schema by the changelog and seed the calls.
+   *
+   * @throws Exception the exception
+   */
+  @BeforeClass
+  public static void createStorage() throws Exception {
+    deleteDir(new File(DB_DIR));
+    connection = DriverManager.getConnection(DB_URL, "sa", "");
+    Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+    Liquibase liquibase = new Liquibase(CHANGELOG, new ClassLoaderResourceAccessor(), database);
+    // The changelog defines it only for production databases
+    liquibase.setChangeLogParameter("now", "now()");
+    liquibase.update(new Contexts());
+    int calls = Integer.getInteger("webconferencing.test.seedCalls", SEED_CALLS);
+    try (Statement st = connection.createStatement()) {
+      // Calls of users, spaces, chat rooms and space events, each owner has ten calls spread over a year
+      st.executeUpdate("INSERT INTO WBC_CALLS (ID, PROVIDER_TYPE, OWNER_ID, OWNER_TYPE, STATE, LAST_DATE, IS_GROUP, IS_USER, VERSION) "
+          + "SELECT 'call-' || X, 'jitsi', 'owner-' || MOD(X, " + (calls / 10) + "), "
+          + "CASE MOD(X, 4) WHEN 0 THEN 'user' WHEN 1 THEN 'space' WHEN 2 THEN 'chat_room' ELSE 'space_event' END, "
+          + "CASE WHEN MOD(X, 100) = 0 THEN 'started' ELSE 'stopped' END, "
+          + "DATEADD('SECOND', -MOD(X * 7919, 31536000), CURRENT_TIMESTAMP), "
+          + "MOD(X, 4) <> 0, MOD(X, 4) = 0, 0 FROM SYSTEM_RANGE(1, " + calls + ")");
+      // A participant per call, each user participates in twenty calls
+      st.executeUpdate("INSERT INTO WBC_PARTICIPANTS (ID, CALL_ID, TYPE, STATE, VERSION) "
+          + "SELECT 'user-' || MOD(X, " + (calls / 20) + "), 'call-' || X, 'user', 'leaved', 0 FROM SYSTEM_RANGE(1, " + calls + ")");
+      st.executeUpdate("INSERT INTO WBC_ORIGINS (ID, CALL_ID, TYPE, STATE) "
+          + "SELECT 'owner-' || MOD(X, " + (calls / 10) + "), 'call-' || X, 'space', 'joined' FROM SYSTEM_RANGE(1, " + calls + ")");
+      st.execute("ANALYZE");
+    }
+  }
+
+  /**
+   * Close the storage.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @AfterClass
+  public static void closeStorage() throws SQLException {
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  /**
+   * The changelog should create indexes of the hot lookups.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @Test
+  public void testIndexesCreated() throws SQLException {
+    assertEquals(Arrays.asList("OWNER_ID", "OWNER_TYPE", "IS_GROUP", "LAST_DATE", "STATE"),
+                 indexColumns("WBC_CALLS", "IDX_WBC_CALLS_OWNER"));
+    assertEquals(Arrays.asList("OWNER_TYPE", "LAST_DATE"), indexColumns("WBC_CALLS", "IDX_WBC_CALLS_TYPE_DATE"));
+    assertEquals(Arrays.asList("CALL_ID", "STATE", "TYPE"), indexColumns("WBC_PARTICIPANTS", "IDX_WBC_PARTS_CALL"));
+    assertEquals(Arrays.asList("CALL_ID", "TYPE"), indexColumns("WBC_ORIGINS", "IDX_WBC_ORIGINS_CALL"));
+    assertEquals(Arrays.asList("CALL_ID", "INVITATION_ID", "IDENTITY_TYPE"), indexColumns("WBC_INVITES", "IDX_WBC_INVITES_CALL"));
+  }
+
+  /**
+   * Group call of an owner (WebConfCall.findGroupCallByOwnerTypeId) should be found by the owner index.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @Test
+  public void testFindGroupCallByOwner() throws SQLException {
+    String sql = "SELECT * FROM WBC_CALLS c WHERE c.IS_GROUP = TRUE AND c.OWNER_TYPE = 'space' AND c.OWNER_ID = 'owner-42' "
+        + "ORDER BY c.LAST_DATE";
+    assertIndexPlan(sql, "IDX_WBC_CALLS_OWNER");
+    assertLatency(sql);
+  }
+
+  /**
+   * Group calls of an user (WebConfCall.findUserGroupCalls) should find participants by the primary key, its
+   * first column is participant ID.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @Test
+  public void testFindUserGroupCalls() throws SQLException {
+    String sql = "SELECT c.* FROM WBC_CALLS c, WBC_PARTICIPANTS p WHERE c.ID = p.CALL_ID AND p.ID = 'user-42' ORDER BY c.LAST_DATE";
+    String plan = explain(sql);
+    assertFalse("Participants should not be scanned: " + plan, plan.contains("WBC_PARTICIPANTS.tableScan"));
+    assertFalse("Calls should not be scanned: " + plan, plan.contains("WBC_CALLS.tableScan"));
+    assertLatency(sql);
+  }
+
+  /**
+   * Expired calls of an owner type (WebConfCall.findOwnerOlderCallIds and deleteOwnerOlderCalls) should be
+   * found by the owner type and date index.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @Test
+  public void testFindOwnerOlderCalls() throws SQLException {
+    String sql = "SELECT c.ID FROM WBC_CALLS c WHERE c.OWNER_TYPE = 'user' AND c.LAST_DATE <= DATEADD('DAY', -364, CURRENT_TIMESTAMP) "
+        + "ORDER BY c.LAST_DATE";
+    assertIndexPlan(sql, "IDX_WBC_CALLS_TYPE_DATE");
+    assertLatency(sql);
+    assertIndexPlan("DELETE FROM WBC_CALLS WHERE OWNER_TYPE = 'user' AND LAST_DATE <= DATEADD('DAY', -364, CURRENT_TIMESTAMP)",
+                    "IDX_WBC_CALLS_TYPE_DATE");
+  }
+
+  /**
+   * Participants and origins of a call (WebConfCall.findCallParts and WebConfOrigin.findCallOrigins) should
+   * be found by their call indexes.
+   *
+   * @throws SQLException the SQL exception
+   */
+  @Test
+  public void testFindCallChildren() throws SQLException {
+    String parts = "SELECT * FROM WBC_PARTICIPANTS p WHERE p.CALL_ID = 'call-42' ORDER BY p.STATE, p.TYPE";
+    assertIndexPlan(parts, "IDX_WBC_PARTS_CALL");
+    assertLatency(parts);
+    String origins = "SELECT * FROM WBC_ORIGINS o WHERE o.CALL_ID = 'call-42' AND o.TYPE = 'space' ORDER BY o.TYPE, o.STATE";
+    assertIndexPlan(origins, "IDX_WBC_ORIGINS_CALL");
+    assertLatency(origins);
+  }
+
+  /**
+   * Assert the statement plan uses given index.
+   *
+   * @param sql the SQL statement
+   * @param index the index name
+   * @throws SQLException the SQL exception
+   */
+  protected void assertIndexPlan(String sql, String index) throws SQLException {
+    String plan = explain(sql);
+    assertTrue("Plan should use " + index + ": " + plan, plan.contains(index));
+  }
+
+  /**
+   * Assert the query average time fits the {@link #LATENCY_BUDGET}.
+   *
+   * @param sql the SQL query
+   * @throws SQLException the SQL exception
+   */
+  protected void assertLatency(String sql) throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      long start = System.nanoTime();
+      for (int i = 0; i < LATENCY_RUNS; i++) {
+        try (ResultSet rs = st.executeQuery(sql)) {
+          while (rs.next()) {
+            // read all rows
+          }
+        }
+      }
+      long avgMillis = (System.nanoTime() - start) / LATENCY_RUNS / 1000000;
+      assertTrue("Query took " + avgMillis + " ms: " + sql, avgMillis <= LATENCY_BUDGET);
+    }
+  }
+
+  /**
+   * Explain the statement.
+   *
+   * @param sql the SQL statement
+   * @return the plan
+   * @throws SQLException the SQL exception
+   */
+  protected String explain(String sql) throws SQLException {
+    try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("EXPLAIN " + sql)) {
+      StringBuilder plan = new StringBuilder();
+      while (rs.next()) {
+        plan.append(rs.getString(1));
+      }
+      return plan.toString();
+    }
+  }
+
+  /**
+   * Read the index columns from the database metadata.
+   *
+   * @param table the table
+   * @param index the index
+   * @return the columns in the index order
+   * @throws SQLException the SQL exception
+   */
+  protected List<String> indexColumns(String table, String index) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    List<String> columns = new ArrayList<>();
+    try (ResultSet rs = metaData.getIndexInfo(null, null, table, false, false)) {
+      while (rs.next()) {
+        if (index.equals(rs.getString("INDEX_NAME"))) {
+          int position = rs.getInt("ORDINAL_POSITION");
+          while (columns.size() < position) {
+            columns.add(null);
+          }
+          columns.set(position - 1, rs.getString("COLUMN_NAME"));
+        }
+      }
+    }
+    return columns;
+  }
+
+  /**
+   * Delete the directory with its content.
+   *
+   * @param dir the directory
+   */
+  protected static void deleteDir(File dir) {
+    File[] files = dir.listFiles();
+    if (files != null) {
+      for (File f : files) {
+        deleteDir(f);
+      }
+    }
+    dir.delete();
+  }
+}
@@ -1757,8 +1757,29 @@
 						}
 					} else {
 						if (typeof onUpdate == "function") {
-							onUpdate(result);
-						}							
+							if (result.eventType == "call_roster") {
+								// Joins and leaves of a large group call coalesced by the server, deliver them as single updates
+								var rosterUpdate = function(eventType, partId) {
+									onUpdate({
+										eventType : eventType,
+										callId : result.callId,
+										providerType : result.providerType,
+										owner : result.owner,
+										part : {
+											id : partId
+										}
+									});
+								};
+								for (var ji = 0; ji < result.joined.length; ji++) {
+									rosterUpdate("call_joined", result.joined[ji]);
+								}
+								for (var li = 0; li < result.leaved.length; li++) {
+									rosterUpdate("call_leaved", result.leaved[li]);
+								}
+							} else {
+								onUpdate(result);
+							}
+						}
 					}
 				}, cometdContext, function(subscribeReply) {
 					// Subscription status callback